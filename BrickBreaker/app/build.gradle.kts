@@ -22,6 +22,11 @@ android {
             proguardFiles(getDefaultProguardFile("proguard-android-optimize.txt"), "proguard-rules.pro")
         }
     }
+    androidResources {
+        // Level packs and tall levels are memory-mapped, so they must be stored uncompressed.
+        noCompress.add("bblp")
+        noCompress.add("bbtl")
+    }
     compileOptions {
         sourceCompatibility = JavaVersion.VERSION_1_8
         targetCompatibility = JavaVersion.VERSION_1_8
@@ -30,6 +35,7 @@ android {
 
 dependencies {
 
+    implementation(project(":engine"))
     implementation("androidx.appcompat:appcompat:1.6.1")
     implementation("com.google.android.material:material:1.11.0")
     implementation("androidx.constraintlayout:constraintlayout:2.1.4")
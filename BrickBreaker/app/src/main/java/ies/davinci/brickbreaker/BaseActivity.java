@@ -3,7 +3,7 @@
  *
  * This class extends AppCompatActivity and serves as a base class for other activities in the
  * Brick Breaker Android game. It includes methods to manage background theme music,
- * stop theme music, and play button sound effects.
+ * stop theme music, and play button sound effects through the shared SoundEffects.
  *
  * @author [Fco. Javier]
  * @version 1.0
@@ -15,12 +15,16 @@ package ies.davinci.brickbreaker;
 import android.media.MediaPlayer;
 import android.os.Bundle;
 import android.os.Handler;
+import android.os.Looper;
 
 import androidx.appcompat.app.AppCompatActivity;
 
 public class BaseActivity extends AppCompatActivity {
-    // Media players for background theme music and button sound
-    protected MediaPlayer mediaPlayer, mediaSound;
+    // Media player for background theme music
+    protected MediaPlayer mediaPlayer;
+
+    // Sound effects shared by all the activities and the game
+    protected SoundEffects soundEffects;
 
     // Flag to track whether the theme music is currently playing
     private boolean themePlaying = false;
@@ -28,17 +32,22 @@ public class BaseActivity extends AppCompatActivity {
     // Delay time in milliseconds before starting theme music
     private final int DELAY_TIME_MILLIS = 1000;
 
+    // Handler running the delayed start of the theme music, and the pending start
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private Runnable pendingMusicStart;
+
     /**
      * onCreate Method
      *
      * Overrides the onCreate method of AppCompatActivity.
-     * No additional functionality is added in this class, so it calls the superclass method.
+     * Gets the shared sound effects, which are loaded the first time an activity is created.
      *
      * @param savedInstanceState A Bundle containing the saved state of the activity.
      */
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        soundEffects = SoundEffects.getInstance(this);
     }
 
     /**
@@ -52,13 +61,16 @@ public class BaseActivity extends AppCompatActivity {
         // Check if the theme music is not already playing
         if (!themePlaying) {
             // Use Handler to introduce a delay before starting the music
-            new Handler().postDelayed(new Runnable() {
+            cancelMusicStart();
+            pendingMusicStart = new Runnable() {
                 @Override
                 public void run() {
                     // Start the music and update the flag
+                    pendingMusicStart = null;
                     themePlaying = startMusic(rawResourceId);
                 }
-            }, DELAY_TIME_MILLIS);
+            };
+            handler.postDelayed(pendingMusicStart, DELAY_TIME_MILLIS);
         }
     }
 
@@ -90,15 +102,31 @@ public class BaseActivity extends AppCompatActivity {
     /**
      * stopThemeMusic Method
      *
-     * Method to stop the background theme music.
+     * Method to stop the background theme music and release its media player. Also cancels a
+     * delayed start, so no music starts after the activity is paused.
      */
     protected void stopThemeMusic() {
+        cancelMusicStart();
+
         // Check if the media player is not null
         if (mediaPlayer != null) {
             // Stop and release the media player, and update the flag
             mediaPlayer.stop();
             mediaPlayer.release();
-            themePlaying = false;
+            mediaPlayer = null;
+        }
+        themePlaying = false;
+    }
+
+    /**
+     * cancelMusicStart Method
+     *
+     * Cancels the delayed start of the theme music, if there is one.
+     */
+    private void cancelMusicStart() {
+        if (pendingMusicStart != null) {
+            handler.removeCallbacks(pendingMusicStart);
+            pendingMusicStart = null;
         }
     }
 
@@ -110,10 +138,7 @@ public class BaseActivity extends AppCompatActivity {
      * @param rawResourceId The resource ID of the sound effect to be played.
      */
     protected void buttonSound(int rawResourceId) {
-        // Set volume, create, configure, and start the button sound media player
-        float volumeB = 1.0f;
-        mediaSound = MediaPlayer.create(this, rawResourceId);
-        mediaSound.setVolume(volumeB, volumeB);
-        mediaSound.start();
+        // Play the preloaded effect, no media player is created
+        soundEffects.play(rawResourceId);
     }
 }
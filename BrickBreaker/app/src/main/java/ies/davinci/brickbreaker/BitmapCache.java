@@ -0,0 +1,122 @@
+/**
+ * BitmapCache Class
+ *
+ * This class decodes the bitmaps of the Brick Breaker game once and keeps them for the life of the
+ * app, so a new game does not decode them again. Each bitmap is decoded directly at the size it is
+ * drawn: the source is subsampled with inSampleSize when it is much larger, and scaled to the
+ * exact target width by the decoder with inDensity/inTargetDensity. The cache is bounded to a
+ * fraction of the app memory and evicts the least recently used bitmaps.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.LruCache;
+
+public class BitmapCache {
+
+    // Fraction of the maximum app memory the cache can use
+    private static final int MEMORY_FRACTION = 16;
+
+    private static BitmapCache instance;
+
+    private final Resources resources;
+
+    // Decoded bitmaps, keyed by resource ID and target width
+    private final LruCache<Long, Bitmap> cache;
+
+    /**
+     * getInstance Method
+     *
+     * Retrieves the shared bitmap cache, creating it the first time.
+     *
+     * @param context Any context, only its application context is kept.
+     * @return The shared bitmap cache.
+     */
+    public static synchronized BitmapCache getInstance(Context context) {
+        if (instance == null) {
+            instance = new BitmapCache(context.getApplicationContext().getResources());
+        }
+        return instance;
+    }
+
+    /**
+     * Constructor
+     *
+     * Creates an empty cache bounded by the app memory.
+     *
+     * @param resources The resources of the app.
+     */
+    private BitmapCache(Resources resources) {
+        this.resources = resources;
+        int maxBytes = (int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / MEMORY_FRACTION);
+        cache = new LruCache<Long, Bitmap>(maxBytes) {
+            @Override
+            protected int sizeOf(Long key, Bitmap bitmap) {
+                return bitmap.getAllocationByteCount();
+            }
+        };
+    }
+
+    /**
+     * get Method
+     *
+     * Retrieves a bitmap at the given width, keeping the aspect ratio of the source. The bitmap is
+     * decoded the first time and reused afterwards, so it must not be modified or recycled.
+     *
+     * @param resId The drawable resource ID.
+     * @param targetWidth The width the bitmap is drawn at, in pixels.
+     * @param config The bitmap configuration, ARGB_8888 for sprites with transparency.
+     * @return The decoded bitmap.
+     */
+    public synchronized Bitmap get(int resId, int targetWidth, Bitmap.Config config) {
+        Long key = ((long) resId << 32) | (targetWidth & 0xFFFFFFFFL);
+        Bitmap bitmap = cache.get(key);
+        if (bitmap == null) {
+            bitmap = decode(resId, Math.max(1, targetWidth), config);
+            cache.put(key, bitmap);
+        }
+        return bitmap;
+    }
+
+    /**
+     * decode Method
+     *
+     * Decodes a drawable resource at the given width in a single decode.
+     *
+     * @param resId The drawable resource ID.
+     * @param targetWidth The width of the decoded bitmap.
+     * @param config The bitmap configuration.
+     * @return The decoded bitmap.
+     */
+    private Bitmap decode(int resId, int targetWidth, Bitmap.Config config) {
+        // Read the size of the source without decoding it.
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        options.inScaled = false;
+        BitmapFactory.decodeResource(resources, resId, options);
+        int sourceWidth = Math.max(1, options.outWidth);
+
+        // Subsample large sources, keeping them at least as wide as the target.
+        int sampleSize = 1;
+        while (sourceWidth / (sampleSize * 2) >= targetWidth) {
+            sampleSize *= 2;
+        }
+
+        // Let the decoder scale the subsampled width to the target width.
+        options.inJustDecodeBounds = false;
+        options.inSampleSize = sampleSize;
+        options.inScaled = true;
+        options.inDensity = sourceWidth / sampleSize;
+        options.inTargetDensity = targetWidth;
+        options.inPreferredConfig = config;
+        return BitmapFactory.decodeResource(resources, resId, options);
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * BrickLayer Class
+ *
+ * This class caches the brick field of the Brick Breaker game in an offscreen bitmap. The bricks
+ * are drawn into the bitmap once, and when a brick breaks only its rectangle is cleared. Each frame
+ * the game draws the whole field with a single drawBitmap call instead of one drawRect per brick.
+ * The bitmap is in screen pixels, and its canvas scales the world units of the bricks to them.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.PorterDuff;
+import android.graphics.PorterDuffXfermode;
+
+import ies.davinci.brickbreaker.engine.BrickStore;
+
+public class BrickLayer {
+
+    // Offscreen bitmap holding the brick field and the canvas drawing into it
+    private final Bitmap bitmap;
+    private final Canvas layerCanvas;
+
+    // Paints to draw a brick, a multi-ball brick and to clear the rectangle of a broken brick
+    private final Paint brickPaint;
+    private final Paint multiBallPaint = new Paint();
+    private final Paint clearPaint = new Paint();
+
+    /**
+     * Constructor
+     *
+     * Creates a transparent layer of the given size.
+     *
+     * @param width The width of the layer in pixels, the width of the playing field.
+     * @param height The height of the layer in pixels, enough to hold every brick.
+     * @param scale The screen pixels per world unit.
+     * @param brickPaint The paint used to draw the bricks.
+     */
+    public BrickLayer(int width, int height, float scale, Paint brickPaint) {
+        bitmap = Bitmap.createBitmap(Math.max(1, width), Math.max(1, height), Bitmap.Config.ARGB_8888);
+        layerCanvas = new Canvas(bitmap);
+        layerCanvas.scale(scale, scale);
+        this.brickPaint = brickPaint;
+        multiBallPaint.setColor(Color.MAGENTA);
+        clearPaint.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.CLEAR));
+    }
+
+    /**
+     * redrawAll Method
+     *
+     * Clears the layer and draws every alive brick, used when a level is loaded.
+     *
+     * @param bricks The bricks of the level.
+     */
+    public void redrawAll(BrickStore bricks) {
+        bitmap.eraseColor(Color.TRANSPARENT);
+        for (int i = bricks.nextAlive(0); i >= 0; i = bricks.nextAlive(i + 1)) {
+            Paint paint = bricks.type(i) == BrickStore.TYPE_MULTI_BALL ? multiBallPaint : brickPaint;
+            layerCanvas.drawRect(bricks.left(i) + 1, bricks.top(i) + 1,
+                    bricks.right(i) - 1, bricks.bottom(i) - 1, paint);
+        }
+    }
+
+    /**
+     * clearBrick Method
+     *
+     * Clears the rectangle of a broken brick.
+     *
+     * @param bricks The bricks of the level.
+     * @param i The index of the broken brick.
+     */
+    public void clearBrick(BrickStore bricks, int i) {
+        layerCanvas.drawRect(bricks.left(i), bricks.top(i), bricks.right(i), bricks.bottom(i), clearPaint);
+    }
+
+    // Cached brick field, drawn by the renderer as a single sprite
+    public Bitmap getBitmap() {
+        return bitmap;
+    }
+}
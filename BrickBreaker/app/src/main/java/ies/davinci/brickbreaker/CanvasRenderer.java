@@ -0,0 +1,92 @@
+/**
+ * CanvasRenderer Class
+ *
+ * This class draws a DrawList on an Android Canvas. The draw list only holds ids of bitmaps and
+ * paints, which this class maps to the Bitmap and Paint objects set up by the game. The list is
+ * sorted before it is drawn, so commands sharing a bitmap or a paint are drawn one after the
+ * other, and the draw calls and state changes of the last frame are kept for the frame stats.
+ * The renderer only reads the list, so it can draw on another thread than the one filling it.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import ies.davinci.brickbreaker.engine.DrawList;
+
+public class CanvasRenderer {
+
+    // Bitmaps and paints by id
+    private final Bitmap[] sprites;
+    private final Paint[] paints;
+
+    // Draw calls and state changes of the last frame
+    private int drawCalls = 0, stateChanges = 0;
+
+    /**
+     * Constructor
+     *
+     * Creates a renderer with room for the given number of bitmap and paint ids.
+     *
+     * @param spriteCount The number of bitmap ids.
+     * @param paintCount The number of paint ids.
+     */
+    public CanvasRenderer(int spriteCount, int paintCount) {
+        sprites = new Bitmap[spriteCount];
+        paints = new Paint[paintCount];
+    }
+
+    public void setSprite(int id, Bitmap bitmap) {
+        sprites[id] = bitmap;
+    }
+
+    public void setPaint(int id, Paint paint) {
+        paints[id] = paint;
+    }
+
+    /**
+     * render Method
+     *
+     * Sorts the draw list and draws its commands on the canvas. Does not allocate.
+     *
+     * @param list The draw list of the frame.
+     * @param canvas The canvas to draw on.
+     */
+    public void render(DrawList list, Canvas canvas) {
+        list.sort();
+        for (int k = 0; k < list.count(); k++) {
+            int i = list.command(k);
+            switch (list.kind(i)) {
+                case DrawList.SPRITE:
+                    canvas.drawBitmap(sprites[list.resource(i)], list.x(i), list.y(i), null);
+                    break;
+                case DrawList.RECT:
+                    canvas.drawRect(list.x(i), list.y(i), list.right(i), list.bottom(i), paints[list.resource(i)]);
+                    break;
+                case DrawList.POINTS:
+                    canvas.drawPoints(list.points(), list.dataStart(i), list.dataLength(i), paints[list.resource(i)]);
+                    break;
+                case DrawList.TEXT:
+                    canvas.drawText(list.text(), list.dataStart(i), list.dataLength(i), list.x(i), list.y(i),
+                            paints[list.resource(i)]);
+                    break;
+            }
+        }
+        drawCalls = list.count();
+        stateChanges = list.stateChanges();
+    }
+
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    public int getStateChanges() {
+        return stateChanges;
+    }
+}
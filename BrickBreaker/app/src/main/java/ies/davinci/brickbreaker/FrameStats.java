@@ -0,0 +1,272 @@
+/**
+ * FrameStats Class
+ *
+ * This class measures the frames of the game loop. The update time, the draw time and the full
+ * frame interval are recorded into separate histograms, and frames whose interval exceeds the
+ * frame budget are counted as jank. Frames the quality governor does not draw only count
+ * their update. The update and draw phases are also marked as android.os.Trace sections so they
+ * show in system traces. The stats can be drawn as an overlay, with the quality level, and dumped
+ * to the log when the game ends.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.os.Trace;
+import android.util.Log;
+
+import ies.davinci.brickbreaker.engine.FrameHistogram;
+
+public class FrameStats {
+
+    private static final String TAG = "FrameStats";
+
+    // Frames between two refreshes of the overlay text
+    private static final int OVERLAY_REFRESH_FRAMES = 30;
+
+    // Histograms of the update time, the draw time and the frame interval
+    final FrameHistogram update = new FrameHistogram();
+    final FrameHistogram draw = new FrameHistogram();
+    final FrameHistogram frame = new FrameHistogram();
+
+    // Histogram of the age of the newest touch sample when the tick using it ran
+    final FrameHistogram inputLatency = new FrameHistogram();
+
+    // Frame budget, and counters of frames over the budget and over twice the budget
+    private final long budgetNanos;
+    private long jankFrames = 0, bigJankFrames = 0;
+
+    // Start of the current frame and of the previous one
+    private long frameStart = 0, lastFrameStart = 0;
+    private long updateEnd = 0;
+
+    // Update and draw time of the last frame, the draw time 0 if it was not drawn
+    private long lastUpdateNanos = 0, lastDrawNanos = 0;
+
+    // Overlay text lines, rebuilt every OVERLAY_REFRESH_FRAMES frames without allocating
+    private final char[][] lines = new char[7][48];
+    private final int[] lineLengths = new int[7];
+
+    // Draw calls and drawing state changes of the last frame
+    private int drawCalls = 0, stateChanges = 0;
+
+    // Quality level and vsyncs per drawn frame of the last frame
+    private int qualityLevel = 0, renderInterval = 1;
+    private final Paint overlayPaint = new Paint();
+
+    /**
+     * Constructor
+     *
+     * Initializes empty stats for the given frame budget.
+     *
+     * @param budgetNanos The frame budget in nanoseconds, one refresh period of the display.
+     */
+    public FrameStats(long budgetNanos) {
+        this.budgetNanos = budgetNanos;
+        overlayPaint.setColor(Color.WHITE);
+        overlayPaint.setTextSize(36);
+    }
+
+    /**
+     * beginUpdate Method
+     *
+     * Marks the start of a frame and of its update phase.
+     */
+    public void beginUpdate() {
+        frameStart = System.nanoTime();
+        if (lastFrameStart != 0) {
+            long interval = frameStart - lastFrameStart;
+            frame.record(interval);
+            if (interval > budgetNanos * 2) {
+                bigJankFrames++;
+            }
+            if (interval > budgetNanos + budgetNanos / 2) {
+                jankFrames++;
+            }
+        }
+        lastFrameStart = frameStart;
+        Trace.beginSection("Game.update");
+    }
+
+    /**
+     * endUpdateBeginDraw Method
+     *
+     * Marks the end of the update phase and the start of the draw phase.
+     */
+    public void endUpdateBeginDraw() {
+        Trace.endSection();
+        updateEnd = System.nanoTime();
+        lastUpdateNanos = updateEnd - frameStart;
+        update.record(lastUpdateNanos);
+        Trace.beginSection("Game.draw");
+    }
+
+    /**
+     * endDraw Method
+     *
+     * Marks the end of the draw phase, after the canvas is posted.
+     */
+    public void endDraw() {
+        Trace.endSection();
+        lastDrawNanos = System.nanoTime() - updateEnd;
+        draw.record(lastDrawNanos);
+        if (frame.count() % OVERLAY_REFRESH_FRAMES == 0) {
+            refreshOverlay();
+        }
+    }
+
+    /**
+     * skipDraw Method
+     *
+     * Marks the end of a frame that was not drawn, instead of endDraw(), so the draw histogram
+     * only holds drawn frames.
+     */
+    public void skipDraw() {
+        Trace.endSection();
+        lastDrawNanos = 0;
+    }
+
+    public long getLastUpdateNanos() {
+        return lastUpdateNanos;
+    }
+
+    public long getLastDrawNanos() {
+        return lastDrawNanos;
+    }
+
+    /**
+     * recordDrawCalls Method
+     *
+     * Keeps the draw calls and the drawing state changes of the frame for the overlay.
+     *
+     * @param calls The draw calls of the frame.
+     * @param changes The state changes of the frame.
+     */
+    public void recordDrawCalls(int calls, int changes) {
+        drawCalls = calls;
+        stateChanges = changes;
+    }
+
+    /**
+     * recordQuality Method
+     *
+     * Keeps the quality level and the render interval of the frame for the overlay.
+     *
+     * @param level The quality level.
+     * @param interval The vsyncs per drawn frame.
+     */
+    public void recordQuality(int level, int interval) {
+        qualityLevel = level;
+        renderInterval = interval;
+    }
+
+    /**
+     * drawOverlay Method
+     *
+     * Draws the stats in the top-left corner of the canvas.
+     *
+     * @param canvas The canvas to draw on.
+     */
+    public void drawOverlay(Canvas canvas) {
+        float y = 40;
+        for (int i = 0; i < lines.length; i++) {
+            canvas.drawText(lines[i], 0, lineLengths[i], 20, y, overlayPaint);
+            y += 42;
+        }
+    }
+
+    /**
+     * refreshOverlay Method
+     *
+     * Rebuilds the overlay text lines from the histograms.
+     */
+    private void refreshOverlay() {
+        lineLengths[0] = formatLine(lines[0], "upd ", update);
+        lineLengths[1] = formatLine(lines[1], "drw ", draw);
+        lineLengths[2] = formatLine(lines[2], "frm ", frame);
+        int n = append(lines[3], 0, "jank ");
+        n = appendNumber(lines[3], n, jankFrames);
+        n = append(lines[3], n, " / ");
+        n = appendNumber(lines[3], n, bigJankFrames);
+        n = append(lines[3], n, " of ");
+        lineLengths[3] = appendNumber(lines[3], n, frame.count());
+        lineLengths[4] = formatLine(lines[4], "inp ", inputLatency);
+        n = append(lines[5], 0, "calls ");
+        n = appendNumber(lines[5], n, drawCalls);
+        n = append(lines[5], n, " states ");
+        lineLengths[5] = appendNumber(lines[5], n, stateChanges);
+        n = append(lines[6], 0, "quality ");
+        n = appendNumber(lines[6], n, qualityLevel);
+        n = append(lines[6], n, " every ");
+        lineLengths[6] = appendNumber(lines[6], n, renderInterval);
+    }
+
+    /**
+     * formatLine Method
+     *
+     * Writes "label p50 p95 p99" of a histogram, in milliseconds, into a line buffer.
+     *
+     * @return The length of the line.
+     */
+    private static int formatLine(char[] line, String label, FrameHistogram histogram) {
+        int n = append(line, 0, label);
+        n = appendMillis(line, n, histogram.percentileMicros(50));
+        n = append(line, n, " ");
+        n = appendMillis(line, n, histogram.percentileMicros(95));
+        n = append(line, n, " ");
+        return appendMillis(line, n, histogram.percentileMicros(99));
+    }
+
+    private static int append(char[] line, int n, String text) {
+        for (int i = 0; i < text.length() && n < line.length; i++) {
+            line[n++] = text.charAt(i);
+        }
+        return n;
+    }
+
+    private static int appendNumber(char[] line, int n, long value) {
+        long divisor = 1;
+        while (value / divisor >= 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0 && n < line.length; divisor /= 10) {
+            line[n++] = (char) ('0' + (value / divisor) % 10);
+        }
+        return n;
+    }
+
+    private static int appendMillis(char[] line, int n, long micros) {
+        n = appendNumber(line, n, micros / 1000);
+        n = append(line, n, ".");
+        return appendNumber(line, n, (micros / 100) % 10);
+    }
+
+    /**
+     * dump Method
+     *
+     * Writes a summary of the stats to the log. Allocates, so it is only called when the game
+     * ends.
+     */
+    public void dump() {
+        Log.i(TAG, "frames=" + frame.count() + " jank=" + jankFrames + " bigJank=" + bigJankFrames
+                + " budgetMs=" + budgetNanos / 1_000_000L);
+        Log.i(TAG, summary("update", update));
+        Log.i(TAG, summary("draw", draw));
+        Log.i(TAG, summary("frame", frame));
+        Log.i(TAG, summary("input latency", inputLatency));
+    }
+
+    private static String summary(String name, FrameHistogram histogram) {
+        return name + " us: mean=" + histogram.meanMicros()
+                + " p50=" + histogram.percentileMicros(50)
+                + " p95=" + histogram.percentileMicros(95)
+                + " p99=" + histogram.percentileMicros(99)
+                + " max=" + histogram.maxMicros();
+    }
+}
@@ -1,9 +1,17 @@
 /**
  * Game Class
  *
- * This class represents the main game logic for the Brick Breaker Android game. It handles the
- * movement of the ball, collisions, scoring, and manages the game elements such as the paddle,
- * bricks, and health. Additionally, it includes functionality for touch input and game over handling.
+ * This class connects the Brick Breaker simulation to Android. The movement of the ball,
+ * collisions, scoring and health live in the engine World; this class draws the world through a
+ * draw list built by the engine SceneBuilder and drawn by a CanvasRenderer, publishes the events
+ * it reports to consumer threads that play the sounds and handle game over, and moves the paddle
+ * from touch input. The game is drawn on a SurfaceView by a dedicated GameThread, which is started
+ * and stopped with the surface lifecycle. The world is in world units, scaled to the screen pixels
+ * when drawn, and ticks at a fixed rate of simulated time whatever the refresh rate of the
+ * display. A QualityGovernor, fed with the frame times and the thermal status of the device,
+ * draws fewer particles, then none, then fewer frames when the device falls behind, and restores
+ * them when it catches up. The seed and the paddle input of each tick are recorded, and the last
+ * game is saved as a replay that the engine can play again headless.
  *
  * @author [Fco. Javier]
  * @version 1.0
@@ -15,216 +23,447 @@ package ies.davinci.brickbreaker;
 import android.app.Activity;
 import android.content.Context;
 import android.content.Intent;
+import android.content.pm.ApplicationInfo;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
-import android.graphics.Point;
-import android.media.MediaPlayer;
-import android.view.Display;
+import android.os.Build;
+import android.os.PowerManager;
+import android.util.Log;
 import android.view.MotionEvent;
-import android.view.View;
-import android.os.Handler;
-
+import android.view.SurfaceHolder;
+import android.view.SurfaceView;
+
+import ies.davinci.brickbreaker.engine.BrickStore;
+import ies.davinci.brickbreaker.engine.ChunkStreamer;
+import ies.davinci.brickbreaker.engine.DrawList;
+import ies.davinci.brickbreaker.engine.EventConsumer;
+import ies.davinci.brickbreaker.engine.EventRing;
+import ies.davinci.brickbreaker.engine.GameEvents;
+import ies.davinci.brickbreaker.engine.GameSession;
+import ies.davinci.brickbreaker.engine.InputLog;
+import ies.davinci.brickbreaker.engine.PaddleInputQueue;
+import ies.davinci.brickbreaker.engine.ParticleSystem;
+import ies.davinci.brickbreaker.engine.QualityGovernor;
+import ies.davinci.brickbreaker.engine.SceneBuilder;
+import ies.davinci.brickbreaker.engine.World;
+import ies.davinci.brickbreaker.engine.WorldSnapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Random;
 
-public class Game extends View {
+public class Game extends SurfaceView implements SurfaceHolder.Callback {
 
     Context context;
-    float ballX, ballY;
-    Velocity velocity = new Velocity(25, 30);
-    Handler handler;
+    World world;
+    GameSession session;
+    InputLog inputLog;
+
+    // Streamer of the tall level of a tower game, or null
+    ChunkStreamer streamer;
+    volatile GameThread gameThread;
+    // Simulated time of one tick, the tick the velocities of the tuning are given for
     final long UPDATE_MILLIS = 30;
-    Runnable runnable;
-    Paint textPaint = new Paint();
-    Paint healthPaint = new Paint();
-    Paint brickPaint = new Paint();
-    float paddleX, paddleY, oldX, oldPaddleX;
-    int points = 0, life = 3, numBricks = 0, brokenBricks = 0;
-    int screenWidth, screenHeight, ballWidth, ballHeight;
+    static final String REPLAY_FILE = "last_game.bbrp";
+    static final int BURST_PARTICLES = 16, PARTICLE_SPEED = 12;
+    FrameStats frameStats;
+    boolean showFrameStats;
+
+    // Governor of the effects and render rate, and the listener feeding it the thermal status,
+    // registered with powerManager
+    QualityGovernor quality;
+    PowerManager powerManager;
+    PowerManager.OnThermalStatusChangedListener thermalListener;
+
+    float oldX, oldPaddleX;
+    PaddleInputQueue paddleInput;
+    int screenWidth, screenHeight;
+    float scale;
     Bitmap ball, paddle;
-    MediaPlayer mpHit,  mpBreak;
-    Random random;
-    Brick[] bricks = new Brick[30];
-    boolean gameOver = false;
+    BrickLayer brickLayer;
+    ParticleSystem particles = new ParticleSystem(new Random());
+    DrawList drawList = new DrawList();
+    SceneBuilder sceneBuilder;
+    CanvasRenderer renderer = new CanvasRenderer(SceneBuilder.SPRITE_COUNT, SceneBuilder.PAINT_COUNT);
+    SoundEffects soundEffects;
+    volatile boolean gameOver = false;
+    int ticksPlayed = 0;
+
+    // Levels cleared, from the level a restored game started on, and whether the game was lost,
+    // updated by the session consumer
+    int levelsCleared = 0;
+    boolean lost = false;
+
+    // Consumers of the game events, each draining its own ring on its own thread
+    static final int EVENT_RING_CAPACITY = 256;
+    EventConsumer audioEvents, sessionEvents;
+
+    // Events handled by the session consumer
+    private static final int SESSION_EVENTS = GameEvents.LEVEL_CLEARED | GameEvents.GAME_OVER
+            | GameEvents.SESSION_FINISHED;
+
+    boolean surfaceReady = false, paused = false;
 
     /**
      * Constructor
      *
-     * Initializes the game elements, handlers, and media players.
+     * Creates the game view on a prepared game and initializes the paints, the surface callback
+     * and sound effects. The slow work was done by PreparedGame, so this is cheap.
      *
      * @param context The context of the game.
+     * @param prepared The bitmaps, world and brick layer of the game.
      */
-    public Game(Context context) {
+    public Game(Context context, PreparedGame prepared) {
         super(context);
         this.context = context;
-        ball = BitmapFactory.decodeResource(getResources(),R.drawable.ball);
-        paddle = BitmapFactory.decodeResource(getResources(), R.drawable.paddle);
-        handler = new Handler();
-        runnable = new Runnable() {
+        screenWidth = prepared.screenWidth;
+        screenHeight = prepared.screenHeight;
+        scale = prepared.scale;
+        ball = prepared.ball;
+        paddle = prepared.paddle;
+        world = prepared.world;
+        session = prepared.session;
+        inputLog = prepared.inputLog;
+        streamer = prepared.streamer;
+        brickLayer = prepared.brickLayer;
+        paddleInput = new PaddleInputQueue(world.getPaddleX());
+        levelsCleared = session.getLevel();
+        getHolder().addCallback(this);
+
+        // Frame stats against the refresh period of the display, and their overlay, only shown
+        // in debuggable builds.
+        float refreshRate = ((Activity) context).getWindowManager().getDefaultDisplay().getRefreshRate();
+        long budgetNanos = Math.round(1e9 / refreshRate);
+        frameStats = new FrameStats(budgetNanos);
+        showFrameStats = (context.getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0;
+
+        // Quality against the same budget, lowered early when the device reports it is hot.
+        quality = new QualityGovernor(budgetNanos);
+        listenThermalStatus();
+
+        // Media.
+        soundEffects = SoundEffects.getInstance(context);
+
+        // Event consumers: sounds, and the scoring, saving and screen change at the end of the game.
+        audioEvents = new EventConsumer("GameAudio", EVENT_RING_CAPACITY, new EventConsumer.Handler() {
             @Override
-            public void run() {
-                invalidate();
+            public void onEvent(long event) {
+                playSound(event);
             }
-        };
+        });
+        // The session consumer gets at most a LEVEL_CLEARED per level left, a GAME_OVER and a
+        // SESSION_FINISHED, so its ring holds every event of the game and never drops one, however
+        // far behind its thread falls.
+        sessionEvents = new EventConsumer("GameSession", session.levelsLeft() + 2, new EventConsumer.Handler() {
+            @Override
+            public void onEvent(long event) {
+                handleSessionEvent(event);
+            }
+        });
+        audioEvents.start();
+        sessionEvents.start();
 
-        // Media.
-        mpHit = MediaPlayer.create(context, R.raw.beep);
-        mpBreak = MediaPlayer.create(context, R.raw.block_hit);
+        // Bitmaps and paints of the draw list.
+        sceneBuilder = new SceneBuilder(scale, screenWidth, screenHeight);
+        renderer.setSprite(SceneBuilder.SPRITE_BRICKS, brickLayer.getBitmap());
+        renderer.setSprite(SceneBuilder.SPRITE_BALL, ball);
+        renderer.setSprite(SceneBuilder.SPRITE_PADDLE, paddle);
 
         // Points.
+        Paint textPaint = new Paint();
         textPaint.setColor(Color.BLUE);
         textPaint.setTextSize(120);
         textPaint.setTextAlign(Paint.Align.LEFT);
+        renderer.setPaint(SceneBuilder.PAINT_POINTS, textPaint);
 
         // Health Bar.
-        healthPaint.setColor(Color.GREEN);
-
-        // Bricks.
-        brickPaint.setColor(Color.BLUE);
-
-        // Calculate Display's Width and Height.
-        Display display = ((Activity) getContext()).getWindowManager().getDefaultDisplay();
-        Point size = new Point();
-        display.getSize(size);
-        screenWidth = size.x;
-        screenHeight = size.y;
-
-        // Ball and Paddle Positions.
-        random = new Random();
-        ballX = random.nextInt(screenWidth - 50);
-        ballY = (float) screenHeight / 3;
-        paddleX = ((float) screenWidth / 2) - ((float) paddle.getWidth() / 2);
-        paddleY = (float) (screenHeight * 4) / 5;
-
-        // Ball and Paddle Size.
-        ballWidth = ball.getWidth();
-        ballHeight = ball.getHeight();
-
-        // Call the Method to Create the Bricks.
-        createBricks();
+        renderer.setPaint(SceneBuilder.PAINT_HEALTH_FULL, fillPaint(Color.GREEN));
+        renderer.setPaint(SceneBuilder.PAINT_HEALTH_HALF, fillPaint(Color.YELLOW));
+        renderer.setPaint(SceneBuilder.PAINT_HEALTH_LOW, fillPaint(Color.RED));
+
+        // Particles of the broken bricks.
+        Paint particlePaint = fillPaint(Color.CYAN);
+        particlePaint.setStrokeWidth(6 * getResources().getDisplayMetrics().density);
+        renderer.setPaint(SceneBuilder.PAINT_PARTICLE, particlePaint);
     }
 
     /**
-     * createBricks Method
+     * listenThermalStatus Method
      *
-     * Creates an array of bricks with specified dimensions.
+     * Feeds the thermal status of the device to the quality governor, on the devices that report
+     * it. The listener is called on the main thread.
      */
-    private void createBricks() {
-        int brickWidth = screenWidth / 8;
-        int brickHeight = screenHeight / 16;
-
-        for (int i = 0; i < 8; i++) {
-            for (int j = 0; j < 3; j++) {
-                bricks[numBricks] = new Brick(j, i, brickWidth, brickHeight);
-                numBricks++;
-            }
+    private void listenThermalStatus() {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.Q) {
+            return;
         }
+        powerManager = (PowerManager) context.getSystemService(Context.POWER_SERVICE);
+        if (powerManager == null) {
+            return;
+        }
+        quality.setThermalStatus(powerManager.getCurrentThermalStatus());
+        thermalListener = new PowerManager.OnThermalStatusChangedListener() {
+            @Override
+            public void onThermalStatusChanged(int status) {
+                quality.setThermalStatus(status);
+            }
+        };
+        powerManager.addThermalStatusListener(thermalListener);
+    }
+
+    private static Paint fillPaint(int color) {
+        Paint paint = new Paint();
+        paint.setColor(color);
+        return paint;
     }
 
-    // Method to draw the game elements on the canvas.
+    /**
+     * surfaceCreated Method
+     *
+     * Starts the game thread once the surface is ready to be drawn on, unless the game is paused.
+     *
+     * @param holder The holder of the created surface.
+     */
     @Override
-    protected void onDraw(Canvas canvas) {
-        super.onDraw(canvas);
-        canvas.drawColor(Color.BLACK);
+    public void surfaceCreated(SurfaceHolder holder) {
+        surfaceReady = true;
+        startGameThread();
+    }
 
-        // Update ball position.
-        ballX += velocity.getX();
-        ballY += velocity.getY();
+    /**
+     * surfaceChanged Method
+     *
+     * Nothing to do, the game keeps the screen size measured in the constructor.
+     *
+     * @param holder The holder of the changed surface.
+     * @param format The new pixel format of the surface.
+     * @param width The new width of the surface.
+     * @param height The new height of the surface.
+     */
+    @Override
+    public void surfaceChanged(SurfaceHolder holder, int format, int width, int height) {
+    }
 
-        // // Ball collisions with screen boundaries.
-        if((ballX >= screenWidth - ball.getWidth()) || ballX <= 0) {
-            velocity.setX(velocity.getX() * -1);
+    /**
+     * surfaceDestroyed Method
+     *
+     * Stops the game thread and waits for it, so the surface is not used after it is destroyed.
+     *
+     * @param holder The holder of the destroyed surface.
+     */
+    @Override
+    public void surfaceDestroyed(SurfaceHolder holder) {
+        surfaceReady = false;
+        stopGameThread();
+    }
+
+    /**
+     * pause Method
+     *
+     * Suspends the game when the activity is paused: the game thread is stopped, so nothing runs
+     * in the background, and the playing sound effects are paused.
+     */
+    void pause() {
+        paused = true;
+        stopGameThread();
+        soundEffects.pauseAll();
+    }
+
+    /**
+     * resume Method
+     *
+     * Resumes the game when the activity is resumed. The game thread starts again once the
+     * surface is ready.
+     */
+    void resume() {
+        paused = false;
+        soundEffects.resumeAll();
+        startGameThread();
+    }
+
+    /**
+     * startGameThread Method
+     *
+     * Starts a new game thread if the surface is ready and the game is neither paused nor over.
+     */
+    private void startGameThread() {
+        if (surfaceReady && !paused && !gameOver && gameThread == null) {
+            gameThread = new GameThread(this, getHolder(), UPDATE_MILLIS);
+            gameThread.startLoop();
         }
+    }
 
-        if (ballY <=0) {
-            velocity.setY(velocity.getY() * -1);
+    /**
+     * stopGameThread Method
+     *
+     * Stops the game thread and waits for it, so the game is not updated or drawn afterwards.
+     */
+    private void stopGameThread() {
+        // Read once, since the session consumer can clear it when the game ends.
+        GameThread thread = gameThread;
+        if (thread != null) {
+            thread.stopLoopAndWait();
+            gameThread = null;
         }
+    }
 
-        // Reset ball position and reduce life if it goes below the paddle.
-        if (ballY > paddleY + paddle.getHeight()) {
-            ballX = 1 + random.nextInt(screenWidth - ball.getWidth() - 1);
-            ballY = (float) screenHeight / 3;
-            velocity.setX(xVelocity());
-            velocity.setY(32);
-            // Game Over.
-            life--;
-
-            // Game over condition
-            if (life == 0) {
-                gameOver = true;
-                launchGameOver();
-            }
+    /**
+     * saveSnapshot Method
+     *
+     * Saves the state of the game for the saved instance state of the activity. Only called
+     * while the game is paused, so the game thread is not changing the world. Tower games are
+     * not saved, since a snapshot only holds the bricks of a level of the pack.
+     *
+     * @return The snapshot, or null if the game is over or is a tower game.
+     */
+    byte[] saveSnapshot() {
+        return gameOver || streamer != null ? null : WorldSnapshot.save(session);
+    }
+
+    /**
+     * update Method
+     *
+     * Moves the paddle to the touch position at the input time, steps the game, updates the
+     * cached bricks and the particles, and publishes the events it reports to the event
+     * consumers. Called by the game thread once per tick, and must not block or allocate.
+     *
+     * @param inputNanos The time up to which touch samples are used, from System.nanoTime(): the
+     *                   tick time, or the vsync time for the last tick of a frame.
+     */
+    void update(long inputNanos) {
+        ticksPlayed++;
+        int target = Math.round(paddleInput.positionAt(inputNanos));
+        long inputLatency = paddleInput.takeLatencyNanos();
+        if (inputLatency != PaddleInputQueue.NO_LATENCY) {
+            frameStats.inputLatency.record(inputLatency);
+        }
+        if (inputLog != null) {
+            inputLog.record(target);
         }
+        int events = session.tick(target);
 
-            // Ball and Paddle Collisions.
-            if ((ballX + ball.getWidth() >= paddleX) && (ballX <= paddleX + paddle.getWidth())
-            && (ballY + ball.getHeight() >= paddleY) && (ballY + ball.getHeight() <= paddleY + paddle.getHeight())) {
-                if (mpHit != null) {
-                    mpHit.start();
-                }
-                // Increase Difficulty.
-                velocity.setX(velocity.getX() + 2);
-                velocity.setY((velocity.getY() + 2) * -1);
+        // Clear the broken bricks from the cached layer and burst them into as many particles as
+        // the quality level allows. Without effects, only the cached layer and sprites are drawn.
+        int burstParticles = quality.particlesPerBurst(BURST_PARTICLES);
+        if (burstParticles == 0 && particles.pointCount() > 0) {
+            particles.clear();
+        }
+        BrickStore bricks = world.getBricks();
+        for (int k = 0; k < world.getBrokenThisStepCount(); k++) {
+            int i = world.getBrokenThisStep(k);
+            brickLayer.clearBrick(bricks, i);
+            if (burstParticles > 0) {
+                particles.emitBurst((bricks.left(i) + bricks.right(i)) / 2, (bricks.top(i) + bricks.bottom(i)) / 2,
+                        burstParticles, PARTICLE_SPEED);
             }
-
-            // Draw Ball, Paddle and Bricks on Canvas.
-            canvas.drawBitmap(ball, ballX, ballY, null);
-            canvas.drawBitmap(paddle, paddleX, paddleY, null);
-            for (int i = 0; i < numBricks ; i++) {
-                if (bricks[i].getVisibility()) {
-                    canvas.drawRect(bricks[i].column * bricks[i].width + 1,
-                            bricks[i].row * bricks[i].height + 1,
-                            bricks[i].column * bricks[i].width + bricks[i].width - 1,
-                            bricks[i].row * bricks[i].height + bricks[i].height - 1, brickPaint);
+        }
+        particles.update();
+
+        // Publish each event, with the tick and the points after it, to the audio consumer, which
+        // may drop it, and the events that score and end the game to the session consumer, whose
+        // ring holds them all.
+        int points = world.getPoints();
+        for (int flag = GameEvents.PADDLE_HIT; flag <= GameEvents.SESSION_FINISHED; flag <<= 1) {
+            if (GameEvents.has(events, flag)) {
+                long event = EventRing.encode(flag, ticksPlayed, points);
+                audioEvents.publish(event);
+                if (GameEvents.has(SESSION_EVENTS, flag)) {
+                    sessionEvents.publish(event);
                 }
             }
+        }
 
-            // Draw Points.
-            canvas.drawText("" + points, 20, screenHeight, textPaint);
+        if (GameEvents.has(events, GameEvents.LEVEL_STARTED | GameEvents.FIELD_SCROLLED)) {
+            brickLayer.redrawAll(world.getBricks());
+        } else if (GameEvents.has(events, GameEvents.SESSION_FINISHED)) {
+            // The session consumer takes it from here.
+            gameOver = true;
+            gameThread.stopLoop();
+        }
+    }
 
-            // Draw and Change Health Bar.
-            if (life == 2) {
-                healthPaint.setColor(Color.YELLOW);
-            } else if (life == 1) {
-                healthPaint.setColor(Color.RED);
-            }
-            canvas.drawRect(screenWidth - 200, 30, screenWidth - 200 + 60 * life, 80, healthPaint);
-
-            // Collisions.
-            for (int i = 0; i < numBricks; i++) {
-                if (bricks[i].getVisibility()) {
-                    if (ballX + ballWidth >= bricks[i].column * bricks[i].width
-                    && ballX <= bricks[i].column * bricks[i].width + bricks[i].width
-                    && ballY <= bricks[i].row * bricks[i].height + bricks[i].height
-                    && ballY >= bricks[i].row * bricks[i].height) {
-                        if (mpBreak != null) {
-                            mpBreak.start();
-                        }
-                        // Increase Velocity.
-                        velocity.setY((velocity.getY() + 1) * -1);
-
-                        // "Break Brick"
-                        bricks[i].setInvisible();
-
-                        // Sum Points and Broken Bricks.
-                        points += 10;
-                        brokenBricks++;
-
-                        if (brokenBricks == 24) {
-                            launchGameOver();
-                        }
-                    }
-                }
-            }
-            if (brokenBricks == numBricks) {
-                gameOver = true;
-            }
-            if (!gameOver) {
-                handler.postDelayed(runnable,UPDATE_MILLIS);
-            }
+    /**
+     * playSound Method
+     *
+     * Plays the sound of an event. Called on the audio consumer thread.
+     *
+     * @param event The encoded event.
+     */
+    private void playSound(long event) {
+        int flag = EventRing.flag(event);
+        if (flag == GameEvents.PADDLE_HIT) {
+            soundEffects.play(R.raw.beep);
+        } else if (flag == GameEvents.BRICK_BROKEN) {
+            soundEffects.play(R.raw.block_hit);
+        }
+    }
+
+    /**
+     * handleSessionEvent Method
+     *
+     * Counts the levels cleared and ends the game when the session finishes. Called on the
+     * session consumer thread.
+     *
+     * @param event The encoded event.
+     */
+    private void handleSessionEvent(long event) {
+        int flag = EventRing.flag(event);
+        if (flag == GameEvents.LEVEL_CLEARED) {
+            levelsCleared++;
+        } else if (flag == GameEvents.GAME_OVER) {
+            lost = true;
+        } else if (flag == GameEvents.SESSION_FINISHED) {
+            launchGameOver(EventRing.value(event), EventRing.tick(event));
         }
+    }
+
+    /**
+     * release Method
+     *
+     * Stops the game thread and the event consumers when the activity is destroyed. The events
+     * already published are handled first. Also stops listening to the thermal status and the
+     * loader of a tower game.
+     */
+    void release() {
+        stopGameThread();
+        if (streamer != null) {
+            streamer.close();
+        }
+        if (thermalListener != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            powerManager.removeThermalStatusListener(thermalListener);
+            thermalListener = null;
+        }
+        audioEvents.stopConsumer();
+        sessionEvents.stopConsumer();
+    }
+
+    /**
+     * render Method
+     *
+     * Builds the draw list of the frame, with the balls and the paddle between their positions of
+     * the last two ticks, and draws it on the canvas. Called by the game thread once per frame,
+     * and must not allocate.
+     *
+     * @param canvas The surface canvas to draw on.
+     * @param alpha The time since the last tick, as a fraction of a tick.
+     */
+    void render(Canvas canvas, float alpha) {
+        canvas.drawColor(Color.BLACK);
+        sceneBuilder.build(world, particles, alpha, drawList);
+        renderer.render(drawList, canvas);
+
+        // Draw Frame Stats.
+        if (showFrameStats) {
+            frameStats.recordDrawCalls(renderer.getDrawCalls(), renderer.getStateChanges());
+            frameStats.recordQuality(quality.getLevel(), quality.renderInterval());
+            frameStats.drawOverlay(canvas);
+        }
+    }
 
     /**
      * onTouchEvent Method
@@ -240,53 +479,92 @@ public class Game extends View {
         float touchY = event.getY();
 
         // Check if touch is below the paddle.
-        if (touchY >= paddleY) {
+        if (touchY >= world.getPaddleY() * scale) {
             int action = event.getAction();
             if (action == MotionEvent.ACTION_DOWN) {
                 // Save initial touch position.
                 oldX = event.getX();
-                oldPaddleX = paddleX;
+                oldPaddleX = paddleInput.latest();
             }
             if (action == MotionEvent.ACTION_MOVE) {
-                // Calculate paddle movement based on touch displacement.
-                float shift = oldX - touchX;
-                float newPaddleX = oldPaddleX - shift;
-
-                // Limit paddle movement within screen boundaries.
-                if (newPaddleX <= 0) {
-                    paddleX = 0;
-                } else if (newPaddleX >= screenWidth - paddle.getWidth()) {
-                    paddleX = screenWidth - paddle.getWidth();
-                } else {
-                    paddleX = newPaddleX;
+                // Queue every sample of the batch, the older ones first. The game thread moves
+                // the paddle at its next ticks.
+                for (int h = 0; h < event.getHistorySize(); h++) {
+                    queuePaddleSample(event.getHistoricalEventTime(h), event.getHistoricalX(h));
                 }
+                queuePaddleSample(event.getEventTime(), touchX);
             }
         }
         return true;
     }
 
     /**
-     * xVelocity Method
+     * queuePaddleSample Method
      *
-     * Generates a random x velocity for the ball.
+     * Queues the paddle position requested by a touch sample, from the touch displacement since
+     * the drag started converted to world units, and within screen boundaries.
      *
-     * @return The randomly generated x velocity.
+     * @param eventTimeMillis The time of the sample, in the uptimeMillis() time base.
+     * @param touchX The x position of the touch, in pixels.
      */
-    private int xVelocity() {
-        int[] values = {-35, -30, -25, 25, 30, 35};
-        int index = random.nextInt(6);
-        return  values[index];
+    private void queuePaddleSample(long eventTimeMillis, float touchX) {
+        float shift = (oldX - touchX) / scale;
+        float maxPaddleX = world.getWidth() - world.getPaddleWidth();
+        paddleInput.add(eventTimeMillis * 1_000_000L, Math.max(0, Math.min(maxPaddleX, oldPaddleX - shift)));
+    }
+
+    /**
+     * saveReplay Method
+     *
+     * Writes the input log of the game to the app files, replacing the previous one. It can be
+     * played headless with the engine Replay program. Restored games have no input log, since
+     * they cannot be replayed from the start.
+     */
+    private void saveReplay() {
+        if (inputLog == null) {
+            return;
+        }
+        File file = new File(context.getFilesDir(), REPLAY_FILE);
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            inputLog.write(out);
+        } catch (IOException e) {
+            Log.w("Game", "Could not save the replay", e);
+        }
     }
 
     /**
      * launchGameOver Method
      *
-     * Launches the Game Over activity and finishes the current activity.
+     * Launches the Game Over activity and finishes the current activity. Called on the session
+     * consumer thread, so the game thread never waits for it: it waits for the game thread to
+     * stop, records the score in the high scores, dumps the frame stats and the chunk stalls of
+     * the game to the log and saves its input log as the replay of the last game, then posts the
+     * activity change to the UI thread.
+     *
+     * @param points The points of the game.
+     * @param ticks The ticks the game lasted.
      */
-    private void launchGameOver() {
-        handler.removeCallbacksAndMessages(null);
-        Intent intent = new Intent(context, GameOver.class);
-        context.startActivity(intent);
-        ((Activity) context).finish();
+    private void launchGameOver(final int points, int ticks) {
+        GameThread thread = gameThread;
+        if (thread != null) {
+            thread.stopLoopAndWait();
+            gameThread = null;
+        }
+        HighScores.getInstance(context).record(System.currentTimeMillis(), points, levelsCleared, ticks, !lost);
+        frameStats.dump();
+        if (streamer != null) {
+            Log.i("Game", "chunks loads=" + streamer.loads() + " stalls=" + streamer.stalls()
+                    + " stallUs=" + streamer.stallNanos() / 1_000L);
+        }
+        saveReplay();
+        post(new Runnable() {
+            @Override
+            public void run() {
+                Intent intent = new Intent(context, GameOver.class);
+                intent.putExtra(GameOver.EXTRA_POINTS, points);
+                context.startActivity(intent);
+                ((Activity) context).finish();
+            }
+        });
     }
 }
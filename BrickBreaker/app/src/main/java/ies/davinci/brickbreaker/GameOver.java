@@ -3,6 +3,7 @@
  *
  * This class represents the screen displayed when the game is over in the Brick Breaker game.
  * It extends the BaseActivity class and includes functionality for restarting the game and exiting.
+ * It shows the points of the game and the high score, read from the in-memory high scores.
  *
  * @author [Fco. Javier]
  * @version 1.0
@@ -14,15 +15,19 @@ package ies.davinci.brickbreaker;
 import android.content.Intent;
 import android.os.Bundle;
 import android.view.View;
+import android.widget.TextView;
 import androidx.annotation.Nullable;
 
 public class GameOver extends BaseActivity {
 
+    // Intent extra with the points of the game
+    static final String EXTRA_POINTS = "points";
+
     /**
      * onCreate Method
      *
-     * Called when the activity is first created. Initializes the game over layout and starts
-     * playing the game over theme music.
+     * Called when the activity is first created. Initializes the game over layout with the score
+     * and starts playing the game over theme music.
      *
      * @param savedInstanceState The saved instance state of the activity.
      */
@@ -31,6 +36,13 @@ public class GameOver extends BaseActivity {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.game_over);
 
+        // Show the points and the high score. The board is already in memory, so this does not
+        // wait for the disk.
+        int points = getIntent().getIntExtra(EXTRA_POINTS, 0);
+        int highScore = HighScores.getInstance(this).board().getHighScore();
+        TextView scoreText = findViewById(R.id.scoreText);
+        scoreText.setText(getString(R.string.game_over_score, points, highScore));
+
         // Start playing the game over theme music.
         startThemeMusic(R.raw.game_over_theme);
     }
@@ -0,0 +1,220 @@
+/**
+ * GameThread Class
+ *
+ * This class runs the game loop of the Brick Breaker game on its own thread, away from the UI
+ * thread. The thread has its own Looper, and the Choreographer calls it on every vsync of the
+ * display. Each frame it runs as many fixed-length ticks of the game as fit in the time since the
+ * last tick, locks the surface canvas, draws the game and posts the canvas back to the surface.
+ *
+ * The ticks follow simulated time rather than the frames, so the game plays at the same speed at
+ * 60, 90 or 120 Hz and when frames are dropped. The time left over after the last tick is passed
+ * to the renderer as a fraction of a tick, which it uses to draw the moving objects between their
+ * last two states. When a frame comes so late that more than MAX_TICKS_PER_FRAME ticks are due,
+ * the extra time is dropped rather than caught up, so a stall does not snowball.
+ *
+ * The quality governor of the game is told the update and draw time of every vsync. When it
+ * lowers the render rate, the ticks still run on every vsync but the frame is only drawn every
+ * few vsyncs, so the game keeps its speed and input while drawing less.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker;
+
+import android.graphics.Canvas;
+import android.os.Build;
+import android.os.Looper;
+import android.view.Choreographer;
+import android.view.SurfaceHolder;
+
+import ies.davinci.brickbreaker.engine.QualityGovernor;
+
+public class GameThread extends Thread implements Choreographer.FrameCallback {
+
+    // Most ticks run for a single frame
+    static final int MAX_TICKS_PER_FRAME = 5;
+
+    // Game being updated and drawn, and the holder of its surface
+    private final Game game;
+    private final SurfaceHolder surfaceHolder;
+
+    // Timing of the update and draw phases of each frame
+    private final FrameStats frameStats;
+
+    // Governor of the quality and render rate, and the vsyncs since the last drawn frame
+    private final QualityGovernor quality;
+    private int framesSinceDraw = 0;
+
+    // Simulated time of one tick in nanoseconds
+    private final long tickNanos;
+
+    // Simulated time of the last tick, on the System.nanoTime() clock, or 0 before the first frame
+    private long tickTime = 0;
+
+    // Flag to keep the loop running, cleared by stopLoop()
+    private volatile boolean running = false;
+
+    // Looper of the thread, quit to stop the loop
+    private volatile Looper looper;
+
+    /**
+     * Constructor
+     *
+     * Initializes the thread for the given game and surface holder.
+     *
+     * @param game The game to update and draw.
+     * @param surfaceHolder The holder of the surface to draw on.
+     * @param tickMillis The simulated time of one tick in milliseconds.
+     */
+    public GameThread(Game game, SurfaceHolder surfaceHolder, long tickMillis) {
+        super("GameThread");
+        this.game = game;
+        this.surfaceHolder = surfaceHolder;
+        this.tickNanos = tickMillis * 1_000_000L;
+        this.frameStats = game.frameStats;
+        this.quality = game.quality;
+    }
+
+    /**
+     * startLoop Method
+     *
+     * Marks the loop as running and starts the thread.
+     */
+    public void startLoop() {
+        running = true;
+        start();
+    }
+
+    /**
+     * stopLoop Method
+     *
+     * Asks the loop to stop after the current frame. Safe to call from any thread.
+     */
+    public void stopLoop() {
+        running = false;
+        Looper threadLooper = looper;
+        if (threadLooper != null) {
+            threadLooper.quit();
+        }
+    }
+
+    /**
+     * stopLoopAndWait Method
+     *
+     * Stops the loop and waits for the thread to finish, so the surface is no longer used when
+     * this method returns. Must not be called from the game thread itself.
+     */
+    public void stopLoopAndWait() {
+        stopLoop();
+        boolean interrupted = false;
+        while (isAlive()) {
+            try {
+                join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * run Method
+     *
+     * Game loop. Prepares the Looper of the thread and asks for the first frame callback, then
+     * handles the callbacks until the loop is stopped.
+     */
+    @Override
+    public void run() {
+        Looper.prepare();
+        looper = Looper.myLooper();
+        if (!running) {
+            return;
+        }
+        Choreographer.getInstance().postFrameCallback(this);
+        Looper.loop();
+    }
+
+    /**
+     * doFrame Method
+     *
+     * Runs the ticks due at the vsync time, then draws the frame between the last two ticks if
+     * the render rate of the quality governor is due, and asks for the next frame callback.
+     *
+     * @param frameTimeNanos The vsync time of the frame, on the System.nanoTime() clock.
+     */
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!running) {
+            return;
+        }
+        if (tickTime == 0) {
+            tickTime = frameTimeNanos;
+        }
+
+        // Update the game state. System.nanoTime() and the touch event times share the uptime
+        // clock, so each tick takes the touch samples up to its own simulated time, except the
+        // last tick of the frame, which takes them up to the vsync time so the frame shows the
+        // newest input.
+        frameStats.beginUpdate();
+        int ticks = 0;
+        while (running && tickTime + tickNanos <= frameTimeNanos) {
+            if (ticks == MAX_TICKS_PER_FRAME) {
+                // Drop the time the device could not keep up with.
+                tickTime = frameTimeNanos;
+                break;
+            }
+            tickTime += tickNanos;
+            boolean lastTick = tickTime + tickNanos > frameTimeNanos
+                    || ticks == MAX_TICKS_PER_FRAME - 1;
+            game.update(lastTick ? frameTimeNanos : tickTime);
+            ticks++;
+        }
+        frameStats.endUpdateBeginDraw();
+
+        // Draw the frame on the surface, the fraction of a tick past the last tick, unless the
+        // governor has lowered the render rate and this vsync is skipped.
+        boolean drawn = ++framesSinceDraw >= quality.renderInterval();
+        if (drawn) {
+            framesSinceDraw = 0;
+            Canvas canvas = lockCanvas();
+            if (canvas != null) {
+                try {
+                    game.render(canvas, (float) (frameTimeNanos - tickTime) / tickNanos);
+                } finally {
+                    surfaceHolder.unlockCanvasAndPost(canvas);
+                }
+            }
+            frameStats.endDraw();
+        } else {
+            frameStats.skipDraw();
+        }
+        quality.recordFrame(frameStats.getLastUpdateNanos(), frameStats.getLastDrawNanos(), drawn);
+
+        if (running) {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    /**
+     * lockCanvas Method
+     *
+     * Locks the surface canvas, using a hardware accelerated canvas when the device supports it.
+     *
+     * @return The locked canvas, or null if the surface is not available.
+     */
+    private Canvas lockCanvas() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            try {
+                return surfaceHolder.lockHardwareCanvas();
+            } catch (IllegalStateException e) {
+                // Surface is not valid anymore.
+                return null;
+            }
+        }
+        return surfaceHolder.lockCanvas();
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * HighScores Class
+ *
+ * This class holds the score store shared by the screens of the Brick Breaker game, kept in the
+ * app files as scores.bbhs. The main menu starts loading it at startup, the game records each game
+ * when it ends, and the game over screen reads the board. None of them waits for the disk: the
+ * store reads and writes the file on its own background thread.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker;
+
+import android.content.Context;
+
+import ies.davinci.brickbreaker.engine.ScoreStore;
+
+import java.io.File;
+
+public class HighScores {
+
+    static final String SCORES_FILE = "scores.bbhs";
+
+    private static ScoreStore instance;
+
+    private HighScores() {
+    }
+
+    /**
+     * getInstance Method
+     *
+     * Retrieves the shared score store, creating it the first time. Creating it does not read
+     * the file.
+     *
+     * @param context Any context, only its application context is used.
+     * @return The shared score store.
+     */
+    public static synchronized ScoreStore getInstance(Context context) {
+        if (instance == null) {
+            instance = new ScoreStore(new File(context.getApplicationContext().getFilesDir(), SCORES_FILE));
+        }
+        return instance;
+    }
+}
@@ -3,6 +3,9 @@
  *
  * This class represents the main menu of the Brick Breaker game. It extends the BaseActivity class
  * and includes functionality for starting the game, exiting the game, and displaying game information.
+ * While the menu is shown, the game is prepared on a background thread, so Start only has to show it.
+ * A tower game on the tall level is prepared after it the same way for Tower, and the one that is
+ * not played is released.
  *
  * @author [Fco. Javier]
  * @version 1.0
@@ -12,16 +15,40 @@
 package ies.davinci.brickbreaker;
 
 import androidx.appcompat.app.AlertDialog;
+import android.graphics.Point;
 import android.os.Bundle;
+import android.util.Log;
 import android.view.View;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 public class MainMenu extends BaseActivity {
 
+    // Key of the saved game in the saved instance state
+    private static final String SAVED_GAME = "savedGame";
+
+    // Background thread preparing the games, the game it prepares and the tower game, which is
+    // null once it is played or released
+    private final ExecutorService loader = Executors.newSingleThreadExecutor();
+    private Future<PreparedGame> preparedGame, preparedTower;
+
+    // Set when the tower game will not be played, so it is not prepared if it has not started yet
+    private volatile boolean towerReleased = false;
+
+    // Game being played, null while the menu is shown
+    private Game game;
+
     /**
      * onCreate Method
      *
-     * Called when the activity is first created. Initializes the main menu layout and starts
-     * playing the main theme music.
+     * Called when the activity is first created. Initializes the main menu layout, starts
+     * preparing the game and the tower game in the background and starts playing the main theme
+     * music. If the activity is recreated while a game was being played, that game is restored
+     * and shown.
      *
      * @param savedInstanceState The saved instance state of the activity.
      */
@@ -30,6 +57,32 @@ public class MainMenu extends BaseActivity {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.main_menu);
 
+        // Load the high scores in the background, so they are in memory by the end of the game.
+        HighScores.getInstance(this).preload();
+
+        // Prepare the game while the menu is shown, or restore the saved game.
+        final Point size = PreparedGame.screenSize(this);
+        final byte[] snapshot = savedInstanceState == null ? null : savedInstanceState.getByteArray(SAVED_GAME);
+        preparedGame = loader.submit(new Callable<PreparedGame>() {
+            @Override
+            public PreparedGame call() {
+                return PreparedGame.prepare(getApplicationContext(), size.x, size.y, snapshot);
+            }
+        });
+        if (snapshot != null) {
+            showGame(waitForPreparedGame(preparedGame, false));
+            return;
+        }
+        preparedTower = loader.submit(new Callable<PreparedGame>() {
+            @Override
+            public PreparedGame call() {
+                if (towerReleased) {
+                    return null;
+                }
+                return PreparedGame.prepareTower(getApplicationContext(), size.x, size.y);
+            }
+        });
+
         // Start playing the main theme music.
         startThemeMusic(R.raw.main_theme);
     }
@@ -37,37 +90,168 @@ public class MainMenu extends BaseActivity {
     /**
      * onPause Method
      *
-     * Called when the activity is paused. Stops the main theme music.
+     * Called when the activity is paused. Stops the main theme music and suspends the game.
      */
     @Override
     protected void onPause() {
         super.onPause();
         stopThemeMusic();
+        if (game != null) {
+            game.pause();
+        }
+    }
+
+    /**
+     * onResume Method
+     *
+     * Called when the activity is resumed. Resumes the game.
+     */
+    @Override
+    protected void onResume() {
+        super.onResume();
+        if (game != null) {
+            game.resume();
+        }
+    }
+
+    /**
+     * onSaveInstanceState Method
+     *
+     * Saves a snapshot of the game being played, so it can be restored if the activity is
+     * recreated. Called after onPause(), while the game is suspended.
+     *
+     * @param outState The bundle to save the state in.
+     */
+    @Override
+    protected void onSaveInstanceState(Bundle outState) {
+        super.onSaveInstanceState(outState);
+        if (game != null) {
+            byte[] snapshot = game.saveSnapshot();
+            if (snapshot != null) {
+                outState.putByteArray(SAVED_GAME, snapshot);
+            }
+        }
     }
 
     /**
      * onDestroy Method
      *
-     * Called when the activity is destroyed.
+     * Called when the activity is destroyed. Releases the tower game if it was not played, lets
+     * the background thread finish and stops the threads of the game.
      */
     @Override
     protected void onDestroy() {
         super.onDestroy();
+        preparedGame.cancel(false);
+        releaseTower();
+        loader.shutdown();
+        if (game != null) {
+            game.release();
+        }
     }
 
     /**
      * startGame Method
      *
-     * Starts the game by creating a new Game object and setting it as the content view.
+     * Starts the game by showing the prepared game. If the game is not prepared yet, waits
+     * for it. A tap that arrives after a game was started is ignored.
      *
      * @param view The view that triggered the method.
      */
     public void startGame(View view) {
+        if (game != null) {
+            return;
+        }
         buttonSound(R.raw.button);
-        Game game = new Game(this);
+        showGame(waitForPreparedGame(preparedGame, false));
+        releaseTower();
+    }
+
+    /**
+     * startTower Method
+     *
+     * Starts a tower game on the tall level by showing the prepared tower game, waiting for it
+     * if needed. The game prepared in the background is not used. A tap that arrives after a game
+     * was started is ignored.
+     *
+     * @param view The view that triggered the method.
+     */
+    public void startTower(View view) {
+        if (game != null || preparedTower == null) {
+            return;
+        }
+        buttonSound(R.raw.button);
+        PreparedGame tower = waitForPreparedGame(preparedTower, true);
+        preparedTower = null;
+        showGame(tower);
+    }
+
+    /**
+     * releaseTower Method
+     *
+     * Releases the tower game if it was not played, without waiting for it: it is not prepared
+     * if it has not started yet, or released on the background thread once it is prepared. The
+     * background thread runs its tasks in order, so the release runs after the preparation.
+     */
+    private void releaseTower() {
+        if (preparedTower == null) {
+            return;
+        }
+        final Future<PreparedGame> tower = preparedTower;
+        preparedTower = null;
+        towerReleased = true;
+        loader.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    PreparedGame prepared = tower.get();
+                    if (prepared != null) {
+                        prepared.release();
+                    }
+                } catch (ExecutionException e) {
+                    // Preparing it failed, so there is nothing to release.
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+    }
+
+    /**
+     * showGame Method
+     *
+     * Creates the Game view on the given game and sets it as the content view.
+     *
+     * @param prepared The prepared game.
+     */
+    private void showGame(PreparedGame prepared) {
+        game = new Game(this, prepared);
         setContentView(game);
     }
 
+    /**
+     * waitForPreparedGame Method
+     *
+     * Gets a game prepared in the background, waiting for it if needed. If preparing it failed,
+     * it is prepared again here.
+     *
+     * @param prepared The game being prepared.
+     * @param tower Whether it is a tower game.
+     * @return The prepared game.
+     */
+    private PreparedGame waitForPreparedGame(Future<PreparedGame> prepared, boolean tower) {
+        try {
+            return prepared.get();
+        } catch (ExecutionException e) {
+            Log.w("MainMenu", "Preparing the game failed, trying again", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Point size = PreparedGame.screenSize(this);
+        return tower ? PreparedGame.prepareTower(getApplicationContext(), size.x, size.y)
+                : PreparedGame.prepare(getApplicationContext(), size.x, size.y);
+    }
+
     /**
      * exitGameMainMenu Method
      *
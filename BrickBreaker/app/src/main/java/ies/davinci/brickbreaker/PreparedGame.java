@@ -0,0 +1,257 @@
+/**
+ * PreparedGame Class
+ *
+ * This class holds everything a new Game needs that is slow to build: the ball and paddle bitmaps,
+ * the level pack, the World on its first level with its recorded input log, and the brick layer
+ * already drawn. The world is World.WIDTH_UNITS wide and as high as the aspect ratio of the
+ * screen, and the bitmaps are decoded at the pixel size of their world size on this screen. None
+ * of it touches the views, so the main menu prepares it on a background thread while it is shown,
+ * and starting the game only creates the view. A game saved with WorldSnapshot is restored the
+ * same way after the process is recreated. A tower game plays the tall level asset instead of the
+ * level pack, streamed around the view by a ChunkStreamer that the game closes when it ends.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Point;
+import android.util.Log;
+import android.view.Display;
+
+import ies.davinci.brickbreaker.engine.ChunkStreamer;
+import ies.davinci.brickbreaker.engine.GameSession;
+import ies.davinci.brickbreaker.engine.InputLog;
+import ies.davinci.brickbreaker.engine.LevelPack;
+import ies.davinci.brickbreaker.engine.TallLevel;
+import ies.davinci.brickbreaker.engine.World;
+import ies.davinci.brickbreaker.engine.WorldSnapshot;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Random;
+
+public class PreparedGame {
+
+    static final String LEVEL_PACK_ASSET = "levels.bblp";
+    static final String TALL_LEVEL_ASSET = "tower.bbtl";
+
+    // Rows of the view of a tower game, which fill the top quarter of the screen like a level
+    static final int TOWER_VIEW_ROWS = 4;
+
+    final int screenWidth, screenHeight;
+
+    // Screen pixels per world unit
+    final float scale;
+    final Bitmap ball, paddle;
+    final World world;
+    final GameSession session;
+    final InputLog inputLog;
+    final BrickLayer brickLayer;
+
+    // Streamer of the tall level of a tower game, or null
+    final ChunkStreamer streamer;
+
+    /**
+     * prepare Method
+     *
+     * Builds a new game for a screen of the given size. Safe to call from any thread.
+     *
+     * @param context The application context.
+     * @param screenWidth The width of the screen.
+     * @param screenHeight The height of the screen.
+     * @return The prepared game.
+     */
+    static PreparedGame prepare(Context context, int screenWidth, int screenHeight) {
+        return new PreparedGame(context, screenWidth, screenHeight, null, null);
+    }
+
+    /**
+     * prepare Method
+     *
+     * Builds a game for a screen of the given size and restores a saved state into it. Safe to
+     * call from any thread.
+     *
+     * @param context The application context.
+     * @param screenWidth The width of the screen.
+     * @param screenHeight The height of the screen.
+     * @param snapshot The state saved with WorldSnapshot, or null for a new game.
+     * @return The prepared game, a new game if the snapshot cannot be restored.
+     */
+    static PreparedGame prepare(Context context, int screenWidth, int screenHeight, byte[] snapshot) {
+        return new PreparedGame(context, screenWidth, screenHeight, snapshot, null);
+    }
+
+    /**
+     * prepareTower Method
+     *
+     * Builds a tower game for a screen of the given size, on the tall level asset. Safe to call
+     * from any thread. A tower game that is not played must be released.
+     *
+     * @param context The application context.
+     * @param screenWidth The width of the screen.
+     * @param screenHeight The height of the screen.
+     * @return The prepared game, a new game on the level pack if the tall level cannot be opened.
+     */
+    static PreparedGame prepareTower(Context context, int screenWidth, int screenHeight) {
+        TallLevel level = openTallLevel(context);
+        if (level == null) {
+            return prepare(context, screenWidth, screenHeight);
+        }
+        return new PreparedGame(context, screenWidth, screenHeight, null, level);
+    }
+
+    /**
+     * Constructor
+     *
+     * Decodes the bitmaps, creates the world on the first level, on the saved state or at the
+     * bottom of the tall level, and draws the brick layer.
+     *
+     * @param context The application context.
+     * @param screenWidth The width of the screen.
+     * @param screenHeight The height of the screen.
+     * @param snapshot The state saved with WorldSnapshot, or null for a new game.
+     * @param tallLevel The tall level of a tower game, or null to play the level pack.
+     */
+    private PreparedGame(Context context, int screenWidth, int screenHeight, byte[] snapshot,
+                         TallLevel tallLevel) {
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+
+        // The world has the same width on every screen, so the game plays the same.
+        scale = (float) screenWidth / World.WIDTH_UNITS;
+        int worldHeight = Math.round(screenHeight / scale);
+
+        // Ball and Paddle bitmaps, decoded once at their drawn size and shared between games.
+        BitmapCache bitmapCache = BitmapCache.getInstance(context);
+        ball = bitmapCache.get(R.drawable.ball, Math.round(World.BALL_SIZE_UNITS * scale), Bitmap.Config.ARGB_8888);
+        paddle = bitmapCache.get(R.drawable.paddle, Math.round(World.PADDLE_WIDTH_UNITS * scale),
+                Bitmap.Config.ARGB_8888);
+
+        // Create the World with the Ball, the Paddle and the Bricks. The seed and every paddle
+        // position are recorded, so the game can be replayed.
+        long seed = new Random().nextLong();
+        world = new World(World.WIDTH_UNITS, worldHeight, World.BALL_SIZE_UNITS, World.BALL_SIZE_UNITS,
+                World.PADDLE_WIDTH_UNITS, World.PADDLE_HEIGHT_UNITS, new Random(seed));
+
+        // Start the Game at the bottom of the tall level, or on the First Level, if the level pack
+        // is available.
+        if (tallLevel != null) {
+            streamer = new ChunkStreamer(tallLevel, TOWER_VIEW_ROWS, ChunkStreamer.DEFAULT_AHEAD_CHUNKS);
+            session = new GameSession(world, streamer);
+        } else {
+            streamer = null;
+            session = new GameSession(world, openLevelPack(context));
+        }
+
+        // Continue a saved game instead. Neither a restored nor a tower game is recorded, since
+        // the replays start from the first level of the pack.
+        boolean restored = snapshot != null && restore(snapshot);
+        inputLog = restored || tallLevel != null ? null : new InputLog(seed, World.WIDTH_UNITS, worldHeight,
+                World.BALL_SIZE_UNITS, World.BALL_SIZE_UNITS, World.PADDLE_WIDTH_UNITS, World.PADDLE_HEIGHT_UNITS);
+
+        // Draw the Bricks once into their cached layer, which holds the top quarter of the screen.
+        Paint brickPaint = new Paint();
+        brickPaint.setColor(Color.BLUE);
+        brickLayer = new BrickLayer(screenWidth, (int) Math.ceil(worldHeight / 4f * scale), scale, brickPaint);
+        brickLayer.redrawAll(world.getBricks());
+    }
+
+    /**
+     * restore Method
+     *
+     * Restores a saved state into the new game.
+     *
+     * @param snapshot The state saved with WorldSnapshot.
+     * @return True if the state was restored.
+     */
+    private boolean restore(byte[] snapshot) {
+        try {
+            return WorldSnapshot.restore(session, snapshot);
+        } catch (IllegalArgumentException e) {
+            Log.w("Game", "Saved game not restored, starting a new game", e);
+            return false;
+        }
+    }
+
+    /**
+     * screenSize Method
+     *
+     * Measures the screen the game is played on.
+     *
+     * @param activity The activity showing the game.
+     * @return The width and height of the screen.
+     */
+    static Point screenSize(Activity activity) {
+        Display display = activity.getWindowManager().getDefaultDisplay();
+        Point size = new Point();
+        display.getSize(size);
+        return size;
+    }
+
+    /**
+     * release Method
+     *
+     * Stops the loader thread of the streamer of a tower game that will not be played. A game
+     * that is played is released by its Game instead.
+     */
+    void release() {
+        if (streamer != null) {
+            streamer.close();
+        }
+    }
+
+    /**
+     * openTallLevel Method
+     *
+     * Memory-maps the tall level asset. Only its header is read here, rows are read as the view
+     * reaches them.
+     *
+     * @param context The context of the game.
+     * @return The tall level, or null if it cannot be opened.
+     */
+    private static TallLevel openTallLevel(Context context) {
+        try {
+            AssetFileDescriptor descriptor = context.getAssets().openFd(TALL_LEVEL_ASSET);
+            try (FileInputStream in = descriptor.createInputStream()) {
+                return TallLevel.map(in.getChannel(), descriptor.getStartOffset(), descriptor.getLength());
+            } finally {
+                descriptor.close();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            Log.w("Game", "Tall level not available, using the level pack", e);
+            return null;
+        }
+    }
+
+    /**
+     * openLevelPack Method
+     *
+     * Memory-maps the level pack asset. Only its header is read here, levels are decoded when
+     * they are loaded.
+     *
+     * @param context The context of the game.
+     * @return The level pack, or null if it cannot be opened and the default level is used.
+     */
+    private static LevelPack openLevelPack(Context context) {
+        try {
+            AssetFileDescriptor descriptor = context.getAssets().openFd(LEVEL_PACK_ASSET);
+            try (FileInputStream in = descriptor.createInputStream()) {
+                return LevelPack.map(in.getChannel(), descriptor.getStartOffset(), descriptor.getLength());
+            } finally {
+                descriptor.close();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            Log.w("Game", "Level pack not available, using the default level", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * SoundEffects Class
+ *
+ * This class plays the short sound effects of the Brick Breaker game (paddle hit, brick break and
+ * button click) through a single SoundPool shared by all the activities. The effects are decoded
+ * once when the pool is created, so playing one is a fire-and-forget call that does not create a
+ * player or wait for the audio service. Each effect can only play a few voices at the same time;
+ * when it is triggered again, its oldest voice is stopped.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker;
+
+import android.content.Context;
+import android.media.AudioAttributes;
+import android.media.SoundPool;
+
+public class SoundEffects {
+
+    // Raw resources of the preloaded effects
+    private static final int[] EFFECTS = {R.raw.beep, R.raw.block_hit, R.raw.button};
+
+    // Voices each effect can play at the same time, and voices of the whole pool
+    private static final int VOICES_PER_EFFECT = 2;
+    private static final int MAX_STREAMS = EFFECTS.length * VOICES_PER_EFFECT;
+
+    private static SoundEffects instance;
+
+    private final SoundPool soundPool;
+
+    // Sound ID of each effect and whether it finished loading
+    private final int[] soundIds = new int[EFFECTS.length];
+    private final boolean[] loaded = new boolean[EFFECTS.length];
+
+    // Stream IDs of the voices of each effect, used as a ring to stop the oldest one
+    private final int[][] streams = new int[EFFECTS.length][VOICES_PER_EFFECT];
+    private final int[] nextStream = new int[EFFECTS.length];
+
+    /**
+     * getInstance Method
+     *
+     * Retrieves the shared sound effects, creating them and starting to load the effects the
+     * first time.
+     *
+     * @param context Any context, only its application context is kept.
+     * @return The shared sound effects.
+     */
+    public static synchronized SoundEffects getInstance(Context context) {
+        if (instance == null) {
+            instance = new SoundEffects(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * Constructor
+     *
+     * Creates the SoundPool and starts loading every effect.
+     *
+     * @param context The application context.
+     */
+    private SoundEffects(Context context) {
+        AudioAttributes attributes = new AudioAttributes.Builder()
+                .setUsage(AudioAttributes.USAGE_GAME)
+                .setContentType(AudioAttributes.CONTENT_TYPE_SONIFICATION)
+                .build();
+        soundPool = new SoundPool.Builder()
+                .setMaxStreams(MAX_STREAMS)
+                .setAudioAttributes(attributes)
+                .build();
+        soundPool.setOnLoadCompleteListener(new SoundPool.OnLoadCompleteListener() {
+            @Override
+            public void onLoadComplete(SoundPool pool, int sampleId, int status) {
+                onLoaded(sampleId, status);
+            }
+        });
+        for (int i = 0; i < EFFECTS.length; i++) {
+            soundIds[i] = soundPool.load(context, EFFECTS[i], 1);
+        }
+    }
+
+    /**
+     * onLoaded Method
+     *
+     * Marks an effect as ready to play once the SoundPool has decoded it.
+     *
+     * @param sampleId The sound ID of the loaded effect.
+     * @param status The load status, 0 on success.
+     */
+    private synchronized void onLoaded(int sampleId, int status) {
+        for (int i = 0; i < EFFECTS.length; i++) {
+            if (soundIds[i] == sampleId) {
+                loaded[i] = status == 0;
+            }
+        }
+    }
+
+    /**
+     * play Method
+     *
+     * Plays an effect. Effects that are still loading are skipped.
+     *
+     * @param rawResourceId The raw resource ID of the effect.
+     */
+    public synchronized void play(int rawResourceId) {
+        for (int i = 0; i < EFFECTS.length; i++) {
+            if (EFFECTS[i] == rawResourceId) {
+                if (loaded[i]) {
+                    // Stop the oldest voice of the effect before reusing its slot.
+                    int slot = nextStream[i];
+                    if (streams[i][slot] != 0) {
+                        soundPool.stop(streams[i][slot]);
+                    }
+                    streams[i][slot] = soundPool.play(soundIds[i], 1.0f, 1.0f, 1, 0, 1.0f);
+                    nextStream[i] = (slot + 1) % VOICES_PER_EFFECT;
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * pauseAll Method
+     *
+     * Pauses every effect that is playing, when the game is paused.
+     */
+    public synchronized void pauseAll() {
+        soundPool.autoPause();
+    }
+
+    /**
+     * resumeAll Method
+     *
+     * Resumes the effects paused by pauseAll().
+     */
+    public synchronized void resumeAll() {
+        soundPool.autoResume();
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * BenchmarkWorlds Class
+ *
+ * This class builds the worlds used by the benchmarks: the playing field of the game on a 16:9
+ * screen, World.WIDTH_UNITS wide, with the ball and paddle sizes of the game, a level with about
+ * the requested number of bricks and a ball moving at the requested speed.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.benchmark;
+
+import ies.davinci.brickbreaker.engine.World;
+
+import java.util.Random;
+
+final class BenchmarkWorlds {
+
+    // Size of the playing field, ball and paddle, in world units
+    static final int WIDTH = World.WIDTH_UNITS, HEIGHT = WIDTH * 16 / 9;
+    static final int BALL_SIZE = World.BALL_SIZE_UNITS;
+    static final int PADDLE_WIDTH = World.PADDLE_WIDTH_UNITS, PADDLE_HEIGHT = World.PADDLE_HEIGHT_UNITS;
+    static final int MULTI_BALLS = 60;
+
+    private BenchmarkWorlds() {
+    }
+
+    /**
+     * newWorld Method
+     *
+     * Creates a world with about brickCount bricks, laid out twice as wide as high, and one ball
+     * moving up and to the right at the given speed on each axis.
+     *
+     * @param brickCount The requested number of bricks.
+     * @param ballSpeed The speed of the ball on each axis, in world units per step.
+     * @param seed The seed of the random generator.
+     * @return The new world.
+     */
+    static World newWorld(int brickCount, int ballSpeed, long seed) {
+        return newWorld(brickCount, ballSpeed, 1, seed);
+    }
+
+    /**
+     * newWorld Method
+     *
+     * Creates a world like newWorld(brickCount, ballSpeed, seed) with extra balls spread under
+     * the bricks, moving in different directions.
+     *
+     * @param brickCount The requested number of bricks.
+     * @param ballSpeed The speed of the balls on each axis, in world units per step.
+     * @param ballCount The number of balls in play.
+     * @param seed The seed of the random generator.
+     * @return The new world.
+     */
+    static World newWorld(int brickCount, int ballSpeed, int ballCount, long seed) {
+        int columns = Math.max(World.BRICK_COLUMNS, (int) Math.ceil(Math.sqrt(brickCount * 2.0)));
+        int rows = Math.max(1, brickCount / columns);
+        World world = new World(WIDTH, HEIGHT, BALL_SIZE, BALL_SIZE, PADDLE_WIDTH, PADDLE_HEIGHT,
+                columns, rows, new Random(seed));
+        world.getBalls().setVelocity(0, ballSpeed, -ballSpeed);
+        for (int i = 1; i < ballCount; i++) {
+            world.spawnBall((i * 97) % (WIDTH - BALL_SIZE), HEIGHT / 3f + (i * 13) % 200,
+                    i % 2 == 0 ? ballSpeed : -ballSpeed, -ballSpeed);
+        }
+        return world;
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * CollisionBenchmark Class
+ *
+ * JMH benchmarks of the collision stages on their own: the swept test of the ball against the
+ * paddle, and the grid query plus swept tests against the bricks near the ball. Ball positions
+ * are precomputed so the benchmarks only measure the collision code.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.benchmark;
+
+import ies.davinci.brickbreaker.engine.BrickGrid;
+import ies.davinci.brickbreaker.engine.BrickStore;
+import ies.davinci.brickbreaker.engine.SweptAabb;
+import ies.davinci.brickbreaker.engine.World;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CollisionBenchmark {
+
+    // Number of precomputed ball positions, a power of two
+    private static final int POSITIONS = 1024;
+
+    @Param({"24", "1000", "10000"})
+    public int brickCount;
+
+    @Param({"30", "120", "400"})
+    public int ballSpeed;
+
+    private final SweptAabb sweep = new SweptAabb();
+    private BrickStore bricks;
+    private BrickGrid grid;
+    private int[] candidates;
+    private float paddleX, paddleY;
+
+    // Precomputed ball positions and movements
+    private final float[] x = new float[POSITIONS], y = new float[POSITIONS];
+    private final float[] dx = new float[POSITIONS], dy = new float[POSITIONS];
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        World world = BenchmarkWorlds.newWorld(brickCount, ballSpeed, 0);
+        bricks = world.getBricks();
+        grid = world.getBrickGrid();
+        candidates = new int[grid.capacity()];
+        paddleX = world.getPaddleX();
+        paddleY = world.getPaddleY();
+
+        // Balls spread over the brick field and the paddle area, moving in every direction.
+        Random random = new Random(42);
+        for (int i = 0; i < POSITIONS; i++) {
+            x[i] = random.nextFloat() * (BenchmarkWorlds.WIDTH - BenchmarkWorlds.BALL_SIZE);
+            y[i] = random.nextFloat() * BenchmarkWorlds.HEIGHT;
+            dx[i] = random.nextBoolean() ? ballSpeed : -ballSpeed;
+            dy[i] = random.nextBoolean() ? ballSpeed : -ballSpeed;
+        }
+    }
+
+    /**
+     * paddleCollision Method
+     *
+     * Swept test of the ball against the paddle.
+     */
+    @Benchmark
+    public boolean paddleCollision() {
+        int i = next++ & (POSITIONS - 1);
+        return sweep.test(x[i], y[i], BenchmarkWorlds.BALL_SIZE, BenchmarkWorlds.BALL_SIZE, dx[i], dy[i],
+                paddleX, paddleY, paddleX + BenchmarkWorlds.PADDLE_WIDTH,
+                paddleY + BenchmarkWorlds.PADDLE_HEIGHT);
+    }
+
+    /**
+     * brickCollision Method
+     *
+     * Grid query of the cells swept by the ball, then swept tests against the bricks found, keeping
+     * the earliest time of impact like World.step() does.
+     */
+    @Benchmark
+    public float brickCollision() {
+        int i = next++ & (POSITIONS - 1);
+        float size = BenchmarkWorlds.BALL_SIZE;
+        int count = grid.query(Math.min(x[i], x[i] + dx[i]), Math.min(y[i], y[i] + dy[i]),
+                Math.max(x[i], x[i] + dx[i]) + size, Math.max(y[i], y[i] + dy[i]) + size, candidates);
+        float earliest = Float.POSITIVE_INFINITY;
+        for (int c = 0; c < count; c++) {
+            int b = candidates[c];
+            if (sweep.test(x[i], y[i], size, size, dx[i], dy[i],
+                    bricks.left(b), bricks.top(b), bricks.right(b), bricks.bottom(b))) {
+                earliest = Math.min(earliest, sweep.time);
+            }
+        }
+        return earliest;
+    }
+}
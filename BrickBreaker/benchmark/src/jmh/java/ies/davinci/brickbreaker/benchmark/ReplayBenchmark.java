@@ -0,0 +1,96 @@
+/**
+ * ReplayBenchmark Class
+ *
+ * JMH benchmark of a whole recorded game played headless with Replay. By default the game is
+ * recorded in the setup with an autopilot paddle on the default levels; passing a replay file
+ * saved by the app with -p replayFile=<path> benchmarks that game instead.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.benchmark;
+
+import ies.davinci.brickbreaker.engine.GameSession;
+import ies.davinci.brickbreaker.engine.InputLog;
+import ies.davinci.brickbreaker.engine.LevelPack;
+import ies.davinci.brickbreaker.engine.LevelPackWriter;
+import ies.davinci.brickbreaker.engine.Replay;
+import ies.davinci.brickbreaker.engine.World;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReplayBenchmark {
+
+    // Ticks recorded by the autopilot, about ten minutes of play
+    private static final int RECORDED_TICKS = 20_000;
+
+    @Param({""})
+    public String replayFile;
+
+    private LevelPack levelPack;
+    private InputLog log;
+
+    @Setup
+    public void setUp() throws IOException {
+        LevelPackWriter writer = new LevelPackWriter();
+        writer.addDefaultLevels();
+        levelPack = new LevelPack(ByteBuffer.wrap(writer.toByteArray()));
+        if (replayFile.isEmpty()) {
+            log = record();
+        } else {
+            try (InputStream in = new BufferedInputStream(new FileInputStream(replayFile))) {
+                log = InputLog.read(in);
+            }
+        }
+    }
+
+    /**
+     * record Method
+     *
+     * Records a game played by an autopilot paddle that follows the first ball.
+     *
+     * @return The recorded game.
+     */
+    private InputLog record() {
+        InputLog recorded = new InputLog(1, BenchmarkWorlds.WIDTH, BenchmarkWorlds.HEIGHT,
+                BenchmarkWorlds.BALL_SIZE, BenchmarkWorlds.BALL_SIZE,
+                BenchmarkWorlds.PADDLE_WIDTH, BenchmarkWorlds.PADDLE_HEIGHT);
+        GameSession session = new GameSession(recorded.newWorld(), levelPack);
+        World world = session.getWorld();
+        for (int tick = 0; tick < RECORDED_TICKS && !session.isFinished(); tick++) {
+            int paddleX = Math.round(world.getBallX() - world.getPaddleWidth() / 2f);
+            recorded.record(paddleX);
+            session.tick(paddleX);
+        }
+        return recorded;
+    }
+
+    /**
+     * replay Method
+     *
+     * Plays the whole recorded game.
+     */
+    @Benchmark
+    public int replay() {
+        return new Replay(log, levelPack).playToEnd().getWorld().getPoints();
+    }
+}
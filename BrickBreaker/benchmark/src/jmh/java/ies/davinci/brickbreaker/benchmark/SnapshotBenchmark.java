@@ -0,0 +1,82 @@
+/**
+ * SnapshotBenchmark Class
+ *
+ * JMH benchmarks of saving a game with WorldSnapshot and restoring it into a new game, on a
+ * level of the classic size and on one as large as the largest default level, after some play so
+ * part of the bricks are broken.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.benchmark;
+
+import ies.davinci.brickbreaker.engine.GameSession;
+import ies.davinci.brickbreaker.engine.LevelPack;
+import ies.davinci.brickbreaker.engine.LevelPackWriter;
+import ies.davinci.brickbreaker.engine.World;
+import ies.davinci.brickbreaker.engine.WorldSnapshot;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SnapshotBenchmark {
+
+    @Param({"8x3", "32x40"})
+    public String levelSize;
+
+    private GameSession saved, restored;
+    private byte[] snapshot;
+
+    @Setup
+    public void setUp() {
+        String[] size = levelSize.split("x");
+        int columns = Integer.parseInt(size[0]), rows = Integer.parseInt(size[1]);
+        byte[] cells = new byte[columns * rows];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = LevelPack.cell(0, 1 + i % 3);
+        }
+        LevelPackWriter writer = new LevelPackWriter();
+        writer.addLevel(columns, rows, cells);
+        byte[] pack = writer.toByteArray();
+
+        saved = newSession(new LevelPack(ByteBuffer.wrap(pack)), 1);
+        snapshot = WorldSnapshot.save(saved);
+        restored = newSession(new LevelPack(ByteBuffer.wrap(pack)), 2);
+    }
+
+    private GameSession newSession(LevelPack pack, long seed) {
+        GameSession session = new GameSession(new World(BenchmarkWorlds.WIDTH, BenchmarkWorlds.HEIGHT,
+                BenchmarkWorlds.BALL_SIZE, BenchmarkWorlds.BALL_SIZE,
+                BenchmarkWorlds.PADDLE_WIDTH, BenchmarkWorlds.PADDLE_HEIGHT, new Random(seed)), pack);
+        World world = session.getWorld();
+        for (int tick = 0; tick < 2_000 && !session.isFinished(); tick++) {
+            session.tick(world.getBallX() - world.getPaddleWidth() / 2f);
+        }
+        return session;
+    }
+
+    @Benchmark
+    public byte[] save() {
+        return WorldSnapshot.save(saved);
+    }
+
+    @Benchmark
+    public boolean restore() {
+        return WorldSnapshot.restore(restored, snapshot);
+    }
+}
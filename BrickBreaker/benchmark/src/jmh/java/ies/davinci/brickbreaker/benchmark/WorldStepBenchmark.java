@@ -0,0 +1,105 @@
+/**
+ * WorldStepBenchmark Class
+ *
+ * JMH benchmarks of the simulation hot paths: a bare ball step, a step with many balls in play,
+ * and a full frame update with the autopilot paddle and the HUD points formatting done by the game
+ * every frame. Worlds that end are replaced before the next invocation, outside the measured
+ * time.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.benchmark;
+
+import ies.davinci.brickbreaker.engine.NumberText;
+import ies.davinci.brickbreaker.engine.World;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WorldStepBenchmark {
+
+    @Param({"24", "1000", "10000"})
+    public int brickCount;
+
+    @Param({"30", "120", "400"})
+    public int ballSpeed;
+
+    private World world, multiBallWorld;
+    private final NumberText pointsText = new NumberText();
+    private long seed = 0;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        world = BenchmarkWorlds.newWorld(brickCount, ballSpeed, seed++);
+        multiBallWorld = BenchmarkWorlds.newWorld(brickCount, ballSpeed, BenchmarkWorlds.MULTI_BALLS, seed++);
+    }
+
+    /**
+     * replaceEndedWorlds Method
+     *
+     * Replaces the worlds whose game is over, so building them is not part of the measured time.
+     */
+    @Setup(Level.Invocation)
+    public void replaceEndedWorlds() {
+        if (world.isGameOver()) {
+            world = BenchmarkWorlds.newWorld(brickCount, ballSpeed, seed++);
+        }
+        if (multiBallWorld.isGameOver()) {
+            multiBallWorld = BenchmarkWorlds.newWorld(brickCount, ballSpeed, BenchmarkWorlds.MULTI_BALLS,
+                    seed++);
+        }
+    }
+
+    /**
+     * ballStep Method
+     *
+     * One World.step() with the paddle left where it is.
+     */
+    @Benchmark
+    public int ballStep() {
+        return world.step();
+    }
+
+    /**
+     * multiBallStep Method
+     *
+     * One World.step() with MULTI_BALLS balls in play. Lost balls are respawned so the ball count
+     * stays the same.
+     */
+    @Benchmark
+    public int multiBallStep() {
+        for (int i = multiBallWorld.getBalls().count(); i < BenchmarkWorlds.MULTI_BALLS; i++) {
+            multiBallWorld.spawnBall(i * 17 % BenchmarkWorlds.WIDTH, BenchmarkWorlds.HEIGHT / 3f,
+                    ballSpeed, -ballSpeed);
+        }
+        return multiBallWorld.step();
+    }
+
+    /**
+     * frameUpdate Method
+     *
+     * One game frame: move the paddle under the ball, step the world and format the points.
+     */
+    @Benchmark
+    public int frameUpdate() {
+        world.movePaddle(world.getBallX() - world.getPaddleWidth() / 2f);
+        int events = world.step();
+        pointsText.set(world.getPoints());
+        return events + pointsText.length();
+    }
+}
@@ -0,0 +1,51 @@
+plugins {
+    id("java-library")
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_1_8
+    targetCompatibility = JavaVersion.VERSION_1_8
+}
+
+dependencies {
+
+    testImplementation("junit:junit:4.13.2")
+}
+
+// Writes the default levels to the level pack asset of the app.
+tasks.register<JavaExec>("writeLevelPack") {
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("ies.davinci.brickbreaker.engine.LevelPackWriter")
+    args(rootProject.file("app/src/main/assets/levels.bblp").path)
+}
+
+// Writes the default tall level to the tower asset of the app.
+tasks.register<JavaExec>("writeTallLevel") {
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("ies.davinci.brickbreaker.engine.TallLevel")
+    args(rootProject.file("app/src/main/assets/tower.bbtl").path)
+}
+
+// Plays a replay saved by the app headless, at full speed:
+// ./gradlew :engine:replay -PreplayFile=last_game.bbrp
+tasks.register<JavaExec>("replay") {
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("ies.davinci.brickbreaker.engine.Replay")
+    args(
+        rootProject.file(providers.gradleProperty("replayFile").getOrElse("last_game.bbrp")).path,
+        rootProject.file("app/src/main/assets/levels.bblp").path
+    )
+}
+
+// Sweeps difficulty tunings over many headless games on every core and prints a CSV:
+// ./gradlew -q :engine:simulate -PsimulateArgs="--games 100 --levels 3" > sweep.csv
+tasks.register<JavaExec>("simulate") {
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("ies.davinci.brickbreaker.engine.BatchSimulator")
+    args(providers.gradleProperty("simulateArgs").getOrElse("").split(" ").filter { it.isNotEmpty() })
+}
+
+// Compiles in the foreground, so the allocation gate measures code that is done compiling.
+tasks.test {
+    jvmArgs("-Xbatch")
+}
@@ -0,0 +1,184 @@
+/**
+ * BallPool Class
+ *
+ * This class holds the balls in play as parallel primitive arrays with a fixed number of
+ * preallocated slots. Balls 0 to count() - 1 are the alive ones: spawning a ball fills the next
+ * slot, and removing one moves the last ball into its slot, so neither allocates and the alive
+ * balls are always packed at the start of the arrays.
+ *
+ * Because removing a ball moves the last one, loops that remove balls go from the last ball to
+ * the first.
+ *
+ * Each ball also keeps its position before the last step, so a renderer drawing between two
+ * steps can interpolate it. A ball spawned during a step has no earlier position and is drawn
+ * where it was spawned.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+public class BallPool {
+
+    // Slots of a pool when none is given
+    public static final int DEFAULT_CAPACITY = 64;
+
+    // Position and velocity of each ball
+    private final float[] x, y;
+    private final float[] previousX, previousY;
+    private final int[] velocityX, velocityY;
+
+    // Number of alive balls
+    private int count = 0;
+
+    /**
+     * Constructor
+     *
+     * Preallocates a pool with the default number of slots.
+     */
+    public BallPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor
+     *
+     * Preallocates a pool with the given number of slots.
+     *
+     * @param capacity The largest number of balls in play at the same time.
+     */
+    public BallPool(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        velocityX = new int[capacity];
+        velocityY = new int[capacity];
+    }
+
+    /**
+     * spawn Method
+     *
+     * Puts a new ball in play.
+     *
+     * @param ballX The x position of the ball.
+     * @param ballY The y position of the ball.
+     * @param ballVelocityX The x velocity of the ball.
+     * @param ballVelocityY The y velocity of the ball.
+     * @return The index of the new ball, or -1 if every slot is in use.
+     */
+    public int spawn(float ballX, float ballY, int ballVelocityX, int ballVelocityY) {
+        if (count == x.length) {
+            return -1;
+        }
+        int i = count++;
+        x[i] = ballX;
+        y[i] = ballY;
+        previousX[i] = ballX;
+        previousY[i] = ballY;
+        velocityX[i] = ballVelocityX;
+        velocityY[i] = ballVelocityY;
+        return i;
+    }
+
+    /**
+     * remove Method
+     *
+     * Takes a ball out of play by moving the last ball into its slot.
+     *
+     * @param i The index of the ball.
+     */
+    public void remove(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        previousX[i] = previousX[last];
+        previousY[i] = previousY[last];
+        velocityX[i] = velocityX[last];
+        velocityY[i] = velocityY[last];
+    }
+
+    /**
+     * clear Method
+     *
+     * Takes every ball out of play.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * savePositions Method
+     *
+     * Keeps the current position of every ball as its previous position, before a step moves
+     * them.
+     */
+    public void savePositions() {
+        System.arraycopy(x, 0, previousX, 0, count);
+        System.arraycopy(y, 0, previousY, 0, count);
+    }
+
+    /**
+     * interpolatedX Method
+     *
+     * Computes the x position of a ball between its previous and its current position.
+     *
+     * @param i The index of the ball.
+     * @param alpha The fraction of the step, from 0 for the previous position to 1 for the
+     *              current one.
+     * @return The interpolated x position.
+     */
+    public float interpolatedX(int i, float alpha) {
+        return previousX[i] + (x[i] - previousX[i]) * alpha;
+    }
+
+    /**
+     * interpolatedY Method
+     *
+     * Computes the y position of a ball between its previous and its current position.
+     *
+     * @param i The index of the ball.
+     * @param alpha The fraction of the step, from 0 for the previous position to 1 for the
+     *              current one.
+     * @return The interpolated y position.
+     */
+    public float interpolatedY(int i, float alpha) {
+        return previousY[i] + (y[i] - previousY[i]) * alpha;
+    }
+
+    public void setPosition(int i, float ballX, float ballY) {
+        x[i] = ballX;
+        y[i] = ballY;
+    }
+
+    public void setVelocity(int i, int ballVelocityX, int ballVelocityY) {
+        velocityX[i] = ballVelocityX;
+        velocityY[i] = ballVelocityY;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int capacity() {
+        return x.length;
+    }
+
+    public float x(int i) {
+        return x[i];
+    }
+
+    public float y(int i) {
+        return y[i];
+    }
+
+    public int velocityX(int i) {
+        return velocityX[i];
+    }
+
+    public int velocityY(int i) {
+        return velocityY[i];
+    }
+}
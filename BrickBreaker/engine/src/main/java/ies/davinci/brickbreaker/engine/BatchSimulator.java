@@ -0,0 +1,248 @@
+/**
+ * BatchSimulator Class
+ *
+ * This class plays many seeded games headless to compare difficulty tunings. An autopilot moves
+ * the paddle towards the lowest ball that is falling, at a limited speed, so games get harder to
+ * save as the ball speeds up. Games run concurrently on a fork/join pool, one task per pair of
+ * tuning and seed, and each tuning gets a SimulationSummary with its win rate, game length and
+ * peak ball speed.
+ *
+ * Running it as a program sweeps the velocity ramp, the horizontal velocity table and the lives,
+ * and prints one CSV line per tuning. The Gradle task :engine:simulate runs it.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public class BatchSimulator {
+
+    // Size of the simulated playing field, ball and paddle, those of the app on a 16:9 screen
+    public static final int WIDTH = World.WIDTH_UNITS, HEIGHT = 1920;
+    public static final int BALL_SIZE = World.BALL_SIZE_UNITS;
+    public static final int PADDLE_WIDTH = World.PADDLE_WIDTH_UNITS, PADDLE_HEIGHT = World.PADDLE_HEIGHT_UNITS;
+
+    // Defaults of the command line options
+    public static final int DEFAULT_GAMES = 50;
+    public static final int DEFAULT_LEVELS = 3;
+    public static final int DEFAULT_MAX_TICKS = 20_000;
+    public static final float DEFAULT_PADDLE_SPEED = 40f;
+
+    // Levels played, or null for the default level of the world
+    private final LevelPack levelPack;
+
+    // Ticks after which an unfinished game is counted as lost
+    private final int maxTicks;
+
+    // Fastest the autopilot moves the paddle, in world units per tick
+    private final float paddleSpeed;
+
+    /**
+     * Constructor
+     *
+     * Creates a simulator.
+     *
+     * @param levelPack The levels to play, or null for the default level of the world.
+     * @param maxTicks The ticks after which an unfinished game is counted as lost.
+     * @param paddleSpeed The fastest the autopilot moves the paddle, in world units per tick.
+     */
+    public BatchSimulator(LevelPack levelPack, int maxTicks, float paddleSpeed) {
+        this.levelPack = levelPack;
+        this.maxTicks = maxTicks;
+        this.paddleSpeed = paddleSpeed;
+    }
+
+    /**
+     * play Method
+     *
+     * Plays one game with the autopilot and adds its result to a summary.
+     *
+     * @param tuning The difficulty parameters.
+     * @param seed The seed of the random generator of the world.
+     * @param summary The summary to add the result to.
+     */
+    public void play(Tuning tuning, long seed, SimulationSummary summary) {
+        World world = new World(WIDTH, HEIGHT, BALL_SIZE, BALL_SIZE, PADDLE_WIDTH, PADDLE_HEIGHT,
+                tuning, new Random(seed));
+        GameSession session = new GameSession(world, levelPack);
+        BallPool balls = world.getBalls();
+        float paddleX = world.getPaddleX();
+        float peakSpeed = 0;
+        int ticks = 0;
+        while (ticks < maxTicks && !session.isFinished()) {
+            // Follow the lowest falling ball, or the first ball if none is falling.
+            int target = 0;
+            for (int i = 0; i < balls.count(); i++) {
+                if (balls.velocityY(i) > 0 && (balls.velocityY(target) <= 0 || balls.y(i) > balls.y(target))) {
+                    target = i;
+                }
+                float vx = balls.velocityX(i), vy = balls.velocityY(i);
+                peakSpeed = Math.max(peakSpeed, (float) Math.sqrt(vx * vx + vy * vy));
+            }
+            float targetX = balls.x(target) + BALL_SIZE / 2f - PADDLE_WIDTH / 2f;
+            paddleX += Math.max(-paddleSpeed, Math.min(paddleSpeed, targetX - paddleX));
+            session.tick(paddleX);
+            paddleX = world.getPaddleX();
+            ticks++;
+        }
+        boolean won = session.isFinished() && world.getLife() > 0;
+        summary.add(won, ticks, peakSpeed, world.getPoints(), session.getLevel() + (won ? 1 : 0));
+    }
+
+    /**
+     * sweep Method
+     *
+     * Plays the given number of games with each tuning, seeded 0, 1, 2..., spread over the
+     * threads of the pool.
+     *
+     * @param tunings The tunings to compare.
+     * @param games The games played with each tuning.
+     * @param pool The pool running the games.
+     * @return The summary of each tuning, in the order of the tunings.
+     * @throws InterruptedException If interrupted while waiting for the games.
+     */
+    public SimulationSummary[] sweep(List<Tuning> tunings, int games, ForkJoinPool pool)
+            throws InterruptedException {
+        List<Future<SimulationSummary>> results = new ArrayList<>(tunings.size() * games);
+        for (final Tuning tuning : tunings) {
+            for (int game = 0; game < games; game++) {
+                final long seed = game;
+                results.add(pool.submit(new Callable<SimulationSummary>() {
+                    @Override
+                    public SimulationSummary call() {
+                        SimulationSummary summary = new SimulationSummary();
+                        play(tuning, seed, summary);
+                        return summary;
+                    }
+                }));
+            }
+        }
+        SimulationSummary[] summaries = newSummaries(tunings.size());
+        try {
+            for (int task = 0; task < results.size(); task++) {
+                summaries[task / games].combine(results.get(task).get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        }
+        return summaries;
+    }
+
+    private static SimulationSummary[] newSummaries(int count) {
+        SimulationSummary[] summaries = new SimulationSummary[count];
+        for (int i = 0; i < count; i++) {
+            summaries[i] = new SimulationSummary();
+        }
+        return summaries;
+    }
+
+    /**
+     * defaultSweep Method
+     *
+     * Builds the tunings swept by the program: paddle speed-ups from 0 to 4, brick speed-ups from
+     * 0 to 3, three horizontal velocity tables around the default one, and 1 to 5 lives.
+     *
+     * @return The tunings, 300 of them.
+     */
+    public static List<Tuning> defaultSweep() {
+        int[][] xVelocityTables = {
+                {-30, -25, -20, 20, 25, 30},
+                {-35, -30, -25, 25, 30, 35},
+                {-40, -35, -30, 30, 35, 40}};
+        List<Tuning> tunings = new ArrayList<>();
+        for (int paddleSpeedUp = 0; paddleSpeedUp <= 4; paddleSpeedUp++) {
+            for (int brickSpeedUp = 0; brickSpeedUp <= 3; brickSpeedUp++) {
+                for (int[] xVelocities : xVelocityTables) {
+                    for (int lives = 1; lives <= 5; lives++) {
+                        tunings.add(new Tuning(paddleSpeedUp, brickSpeedUp, xVelocities, lives));
+                    }
+                }
+            }
+        }
+        return tunings;
+    }
+
+    /**
+     * main Method
+     *
+     * Sweeps the default tunings and prints a CSV line per tuning.
+     *
+     * @param args Options: --games N, --levels N, --max-ticks N, --paddle-speed F, --threads N.
+     * @throws InterruptedException If interrupted while waiting for the games.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int games = DEFAULT_GAMES, levels = DEFAULT_LEVELS, maxTicks = DEFAULT_MAX_TICKS;
+        float paddleSpeed = DEFAULT_PADDLE_SPEED;
+        int threads = Runtime.getRuntime().availableProcessors();
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--games":
+                        games = Integer.parseInt(value);
+                        break;
+                    case "--levels":
+                        levels = Integer.parseInt(value);
+                        break;
+                    case "--max-ticks":
+                        maxTicks = Integer.parseInt(value);
+                        break;
+                    case "--paddle-speed":
+                        paddleSpeed = Float.parseFloat(value);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Usage: BatchSimulator [--games N] [--levels N] [--max-ticks N]"
+                    + " [--paddle-speed F] [--threads N]");
+            System.exit(2);
+        }
+
+        LevelPackWriter writer = new LevelPackWriter();
+        writer.addDefaultLevels(levels);
+        BatchSimulator simulator = new BatchSimulator(
+                new LevelPack(ByteBuffer.wrap(writer.toByteArray())), maxTicks, paddleSpeed);
+        List<Tuning> tunings = defaultSweep();
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        SimulationSummary[] summaries = simulator.sweep(tunings, games, pool);
+        pool.shutdown();
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println("paddleSpeedUp,brickSpeedUp,xVelocities,startLife,games,winRate,"
+                + "meanTicks,longestTicks,meanPeakSpeed,maxPeakSpeed,meanPoints,meanLevelsCleared");
+        for (int t = 0; t < tunings.size(); t++) {
+            Tuning tuning = tunings.get(t);
+            SimulationSummary summary = summaries[t];
+            StringBuilder xVelocities = new StringBuilder();
+            for (int i = 0; i < tuning.xVelocityCount(); i++) {
+                xVelocities.append(i == 0 ? "" : " ").append(tuning.xVelocity(i));
+            }
+            System.out.printf(Locale.ROOT, "%d,%d,%s,%d,%d,%.3f,%.0f,%d,%.1f,%.1f,%.0f,%.2f%n",
+                    tuning.getPaddleSpeedUp(), tuning.getBrickSpeedUp(), xVelocities, tuning.getStartLife(),
+                    summary.getGames(), summary.getWinRate(), summary.getMeanTicks(), summary.getLongestTicks(),
+                    summary.getMeanPeakSpeed(), summary.getMaxPeakSpeed(), summary.getMeanPoints(),
+                    summary.getMeanLevelsCleared());
+        }
+        System.err.printf("%d games on %d threads in %.1f s%n",
+                tunings.size() * games, threads, elapsed / 1e9);
+    }
+}
@@ -0,0 +1,248 @@
+/**
+ * BrickStore Class
+ *
+ * This class stores the bricks of a level as parallel primitive arrays instead of one object per
+ * brick. The geometry of brick i is left[i], top[i], right[i] and bottom[i], its grid position is
+ * row[i] and column[i], and its hit points and type are hitPoints[i] and type[i]. Alive bricks
+ * are tracked in a BitSet, so the draw and collision loops walk the arrays in order and skip
+ * broken bricks without touching them. The arrays grow as bricks are added.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+public class BrickStore {
+
+    // Brick types
+    public static final int TYPE_NORMAL = 0;
+    public static final int TYPE_MULTI_BALL = 1;
+
+    // Initial capacity when none is given
+    private static final int DEFAULT_CAPACITY = 32;
+
+    // Number of bricks stored
+    private int size = 0;
+
+    // Grid position of each brick
+    private int[] row, column;
+
+    // Bounds of each brick
+    private float[] left, top, right, bottom;
+
+    // Hits left before each brick breaks, and its type
+    private int[] hitPoints, type;
+
+    // Alive state of each brick and number of alive bricks
+    private BitSet alive;
+    private int aliveCount = 0;
+
+    /**
+     * Constructor
+     *
+     * Initializes an empty store with the default capacity.
+     */
+    public BrickStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor
+     *
+     * Initializes an empty store able to hold the given number of bricks before growing.
+     *
+     * @param capacity The initial capacity.
+     */
+    public BrickStore(int capacity) {
+        capacity = Math.max(1, capacity);
+        row = new int[capacity];
+        column = new int[capacity];
+        left = new float[capacity];
+        top = new float[capacity];
+        right = new float[capacity];
+        bottom = new float[capacity];
+        hitPoints = new int[capacity];
+        type = new int[capacity];
+        alive = new BitSet(capacity);
+    }
+
+    /**
+     * add Method
+     *
+     * Adds an alive brick, growing the arrays if they are full.
+     *
+     * @param brickRow The row of the brick.
+     * @param brickColumn The column of the brick.
+     * @param width The width of the brick.
+     * @param height The height of the brick.
+     * @param brickType The type of the brick.
+     * @param brickHitPoints The hits needed to break the brick.
+     * @return The index of the new brick.
+     */
+    public int add(int brickRow, int brickColumn, float width, float height,
+                   int brickType, int brickHitPoints) {
+        if (size == row.length) {
+            grow(size * 2);
+        }
+        int i = size++;
+        row[i] = brickRow;
+        column[i] = brickColumn;
+        left[i] = brickColumn * width;
+        top[i] = brickRow * height;
+        right[i] = left[i] + width;
+        bottom[i] = top[i] + height;
+        type[i] = brickType;
+        hitPoints[i] = brickHitPoints;
+        alive.set(i);
+        aliveCount++;
+        return i;
+    }
+
+    /**
+     * reserve Method
+     *
+     * Grows the arrays, keeping the bricks, so up to the given number of bricks are added
+     * without allocating.
+     *
+     * @param capacity The number of bricks of the largest level expected.
+     */
+    public void reserve(int capacity) {
+        if (row.length < capacity) {
+            grow(capacity);
+            BitSet larger = new BitSet(capacity);
+            larger.or(alive);
+            alive = larger;
+        }
+    }
+
+    /**
+     * grow Method
+     *
+     * Copies the arrays into new arrays of the given capacity.
+     *
+     * @param capacity The new capacity.
+     */
+    private void grow(int capacity) {
+        row = Arrays.copyOf(row, capacity);
+        column = Arrays.copyOf(column, capacity);
+        left = Arrays.copyOf(left, capacity);
+        top = Arrays.copyOf(top, capacity);
+        right = Arrays.copyOf(right, capacity);
+        bottom = Arrays.copyOf(bottom, capacity);
+        hitPoints = Arrays.copyOf(hitPoints, capacity);
+        type = Arrays.copyOf(type, capacity);
+    }
+
+    /**
+     * hit Method
+     *
+     * Removes one hit point from an alive brick and breaks it when none are left.
+     *
+     * @param i The index of the brick.
+     * @return True if the brick broke.
+     */
+    public boolean hit(int i) {
+        if (--hitPoints[i] > 0) {
+            return false;
+        }
+        kill(i);
+        return true;
+    }
+
+    /**
+     * kill Method
+     *
+     * Breaks an alive brick.
+     *
+     * @param i The index of the brick.
+     */
+    public void kill(int i) {
+        alive.clear(i);
+        aliveCount--;
+    }
+
+    /**
+     * setHitPoints Method
+     *
+     * Sets the hits left of an alive brick, used when a snapshot is restored.
+     *
+     * @param i The index of the brick.
+     * @param brickHitPoints The hits left, at least 1.
+     */
+    void setHitPoints(int i, int brickHitPoints) {
+        hitPoints[i] = brickHitPoints;
+    }
+
+    /**
+     * clear Method
+     *
+     * Removes all the bricks, keeping the allocated arrays.
+     */
+    public void clear() {
+        alive.clear();
+        size = 0;
+        aliveCount = 0;
+    }
+
+    /**
+     * nextAlive Method
+     *
+     * Finds the next alive brick, in index order. Loops over the alive bricks are written as
+     * for (int i = store.nextAlive(0); i >= 0; i = store.nextAlive(i + 1)).
+     *
+     * @param from The index to start searching from.
+     * @return The index of the next alive brick, or -1 if there are none.
+     */
+    public int nextAlive(int from) {
+        return alive.nextSetBit(from);
+    }
+
+    public boolean isAlive(int i) {
+        return alive.get(i);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int aliveCount() {
+        return aliveCount;
+    }
+
+    public int row(int i) {
+        return row[i];
+    }
+
+    public int column(int i) {
+        return column[i];
+    }
+
+    public float left(int i) {
+        return left[i];
+    }
+
+    public float top(int i) {
+        return top[i];
+    }
+
+    public float right(int i) {
+        return right[i];
+    }
+
+    public float bottom(int i) {
+        return bottom[i];
+    }
+
+    public int hitPoints(int i) {
+        return hitPoints[i];
+    }
+
+    public int type(int i) {
+        return type[i];
+    }
+}
@@ -0,0 +1,311 @@
+/**
+ * ChunkStreamer Class
+ *
+ * This class keeps the rows of a TallLevel near the view resident, in chunks of CHUNK_ROWS rows,
+ * and streams them in and out as the view scrolls up the level. The chunks live in a fixed number
+ * of preallocated slots, enough for the chunks the view covers plus the chunks ahead of it, so
+ * the memory of a level is the same whatever its size. The cells of the resident chunks are the
+ * live state of their bricks: the World writes the hits left back into them before it scrolls.
+ *
+ * Chunks are read on a loader thread, an EventConsumer fed with the slot and chunk to load, so
+ * the game thread only asks for them. The chunks ahead of the view are asked for early, and by
+ * the time the view reaches them they are usually loaded; if one is not, the game thread parks in
+ * short steps until it is, or reads it itself when the loader could not take the request. Each
+ * wait is counted as a stall, with its time, so they show up in the stats of the game.
+ * Chunks the view has left behind are evicted and their slots reused.
+ *
+ * The view only moves up the level, towards row 0, so a chunk left behind is never needed again.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+
+public class ChunkStreamer {
+
+    // Rows of a chunk
+    public static final int CHUNK_ROWS = 16;
+
+    // Chunks kept loaded above the view
+    public static final int DEFAULT_AHEAD_CHUNKS = 2;
+
+    // States of a slot
+    static final int FREE = 0, LOADING = 1, READY = 2;
+
+    // Chunk of a slot that holds none
+    private static final int NO_CHUNK = -1;
+
+    // Longest the game thread parks before checking a chunk it waits for again
+    static final long STALL_PARK_NANOS = 50_000L;
+
+    private final TallLevel level;
+    private final int columns, viewRows, aheadChunks;
+
+    // Cells of the chunk of each slot, the chunk each slot holds and the state of each slot. The
+    // chunks are assigned by the game thread; the loader moves a slot from LOADING to READY.
+    private final byte[][] slotCells;
+    private final int[] slotChunks;
+    private final AtomicIntegerArray slotStates;
+
+    // Thread reading the chunks
+    private final EventConsumer loader;
+
+    // Chunks wanted resident by the current view, from the top
+    private int firstWanted = 0, lastWanted = -1;
+
+    // Chunks loaded, on any thread, and the times and the total time the game thread had to
+    // wait for one
+    private final AtomicInteger loads = new AtomicInteger();
+    private int stalls = 0;
+    private long stallNanos = 0;
+
+    /**
+     * Constructor
+     *
+     * Allocates the slots for a view of the given height and starts the loader thread.
+     *
+     * @param level The tall level.
+     * @param viewRows The rows of the view.
+     * @param aheadChunks The chunks kept loaded above the view.
+     */
+    public ChunkStreamer(TallLevel level, int viewRows, int aheadChunks) {
+        if (viewRows < 1 || aheadChunks < 0) {
+            throw new IllegalArgumentException("Bad view of " + viewRows + " rows, " + aheadChunks + " chunks ahead");
+        }
+        this.level = level;
+        this.columns = level.columns();
+        this.viewRows = viewRows;
+        this.aheadChunks = aheadChunks;
+
+        // A view starting anywhere in a chunk covers at most this many chunks.
+        int slots = (viewRows + CHUNK_ROWS - 2) / CHUNK_ROWS + 1 + aheadChunks;
+        slotCells = new byte[slots][CHUNK_ROWS * columns];
+        slotChunks = new int[slots];
+        slotStates = new AtomicIntegerArray(slots);
+        for (int s = 0; s < slots; s++) {
+            slotChunks[s] = NO_CHUNK;
+        }
+
+        loader = new EventConsumer("ChunkLoader", slots, new EventConsumer.Handler() {
+            @Override
+            public void onEvent(long event) {
+                load((int) (event >>> 32) - 1, (int) event);
+            }
+        });
+        loader.start();
+    }
+
+    /**
+     * setView Method
+     *
+     * Moves the view to start at the given row: evicts the chunks it has left behind, makes sure
+     * the chunks it covers are loaded, waiting for them if needed, and asks the loader for the
+     * chunks ahead of it. Called by the game thread. Does not allocate.
+     *
+     * @param firstRow The first row of the view.
+     */
+    public void setView(int firstRow) {
+        int firstChunk = chunkOf(firstRow);
+        int lastChunk = chunkOf(Math.min(level.rows() - 1, firstRow + viewRows - 1));
+        firstWanted = Math.max(0, firstChunk - aheadChunks);
+        lastWanted = lastChunk;
+        evictUnwanted();
+
+        // The chunks of the view first, from the top, then the chunks ahead, from the nearest.
+        for (int chunk = firstChunk; chunk <= lastChunk; chunk++) {
+            request(chunk);
+        }
+        for (int chunk = firstChunk - 1; chunk >= firstWanted; chunk--) {
+            request(chunk);
+        }
+        for (int chunk = firstChunk; chunk <= lastChunk; chunk++) {
+            awaitChunk(chunk);
+        }
+    }
+
+    /**
+     * evictUnwanted Method
+     *
+     * Frees the slots of the loaded chunks outside the wanted range. A chunk still loading is
+     * evicted once it is loaded.
+     */
+    private void evictUnwanted() {
+        for (int s = 0; s < slotChunks.length; s++) {
+            int chunk = slotChunks[s];
+            if (chunk != NO_CHUNK && (chunk < firstWanted || chunk > lastWanted) && slotStates.get(s) == READY) {
+                slotChunks[s] = NO_CHUNK;
+                slotStates.set(s, FREE);
+            }
+        }
+    }
+
+    /**
+     * request Method
+     *
+     * Asks the loader for a chunk if it is not resident or loading yet. The loader is skipped,
+     * and the chunk read here, when its ring is full.
+     *
+     * @param chunk The chunk.
+     */
+    private void request(int chunk) {
+        if (slotOf(chunk) >= 0) {
+            return;
+        }
+        int slot = freeSlot();
+        if (slot < 0) {
+            return;
+        }
+        slotChunks[slot] = chunk;
+        slotStates.set(slot, LOADING);
+        if (!loader.publish(((long) (slot + 1) << 32) | chunk)) {
+            load(slot, chunk);
+        }
+    }
+
+    /**
+     * awaitChunk Method
+     *
+     * Waits until a chunk of the view is resident, parking in short steps, and counts a stall
+     * with its time if it is not yet.
+     *
+     * @param chunk The chunk.
+     */
+    private void awaitChunk(int chunk) {
+        int slot = slotOf(chunk);
+        if (slot >= 0 && slotStates.get(slot) == READY) {
+            return;
+        }
+        long start = System.nanoTime();
+        stalls++;
+        // The other slots may hold chunks still loading, so wait for one to be evictable.
+        while ((slot = slotOf(chunk)) < 0) {
+            LockSupport.parkNanos(STALL_PARK_NANOS);
+            evictUnwanted();
+            request(chunk);
+        }
+        while (slotStates.get(slot) != READY) {
+            LockSupport.parkNanos(STALL_PARK_NANOS);
+        }
+        stallNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * load Method
+     *
+     * Reads the rows of a chunk into its slot and marks it ready. Called by the loader thread, or
+     * by the game thread when the loader could not take the request.
+     *
+     * @param slot The slot.
+     * @param chunk The chunk.
+     */
+    private void load(int slot, int chunk) {
+        level.readRows(firstRowOf(chunk), CHUNK_ROWS, slotCells[slot]);
+        loads.incrementAndGet();
+        slotStates.set(slot, READY);
+    }
+
+    private int freeSlot() {
+        for (int s = 0; s < slotChunks.length; s++) {
+            if (slotChunks[s] == NO_CHUNK) {
+                return s;
+            }
+        }
+        return -1;
+    }
+
+    private int slotOf(int chunk) {
+        for (int s = 0; s < slotChunks.length; s++) {
+            if (slotChunks[s] == chunk) {
+                return s;
+            }
+        }
+        return -1;
+    }
+
+    private static int chunkOf(int row) {
+        return row / CHUNK_ROWS;
+    }
+
+    private static int firstRowOf(int chunk) {
+        return chunk * CHUNK_ROWS;
+    }
+
+    /**
+     * cell Method
+     *
+     * Retrieves the cell byte of a brick of the view. Called by the game thread after setView().
+     *
+     * @param row The row of the brick in the level.
+     * @param column The column of the brick.
+     * @return The cell byte, 0 for no brick.
+     */
+    public int cell(int row, int column) {
+        return slotCells[slotOf(chunkOf(row))][(row % CHUNK_ROWS) * columns + column] & 0xFF;
+    }
+
+    /**
+     * setCell Method
+     *
+     * Stores the state of a brick of the view. Called by the game thread after setView().
+     *
+     * @param row The row of the brick in the level.
+     * @param column The column of the brick.
+     * @param value The cell byte, 0 for a broken brick.
+     */
+    public void setCell(int row, int column, int value) {
+        slotCells[slotOf(chunkOf(row))][(row % CHUNK_ROWS) * columns + column] = (byte) value;
+    }
+
+    /**
+     * close Method
+     *
+     * Stops the loader thread. Must not be called from the loader thread itself.
+     */
+    public void close() {
+        loader.stopConsumer();
+    }
+
+    public TallLevel getLevel() {
+        return level;
+    }
+
+    public int getViewRows() {
+        return viewRows;
+    }
+
+    // Slots of the streamer, the most chunks ever resident
+    public int slotCount() {
+        return slotChunks.length;
+    }
+
+    // Chunks resident or loading, read by the game thread
+    public int residentChunks() {
+        int count = 0;
+        for (int chunk : slotChunks) {
+            if (chunk != NO_CHUNK) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int loads() {
+        return loads.get();
+    }
+
+    // Times the game thread waited for a chunk of the view
+    public int stalls() {
+        return stalls;
+    }
+
+    // Total time the game thread waited for chunks of the view, in nanoseconds
+    public long stallNanos() {
+        return stallNanos;
+    }
+}
@@ -0,0 +1,298 @@
+/**
+ * DrawList Class
+ *
+ * This class holds the draw commands of one frame: sprites, rectangles, batches of points and
+ * text, each on a layer and with the id of the bitmap or paint it is drawn with. The commands
+ * are plain values in preallocated parallel arrays, and the points and characters are copied
+ * into the list, so a filled list does not refer to the world and a renderer can draw it on
+ * another thread while the next one is filled.
+ *
+ * Layers are drawn in order. Within a layer, sort() groups the commands by kind and by bitmap or
+ * paint so the renderer changes its drawing state as few times as possible; commands with the
+ * same state keep the order they were added in. Commands that do not fit in the list are dropped
+ * and counted, clearing the list never allocates.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+public class DrawList {
+
+    // Kinds of command
+    public static final int SPRITE = 0, RECT = 1, POINTS = 2, TEXT = 3;
+
+    // Commands, point floats and text characters held when no capacity is given
+    public static final int DEFAULT_CAPACITY = 256;
+    public static final int DEFAULT_POINT_CAPACITY = ParticleSystem.DEFAULT_CAPACITY * 2;
+    public static final int DEFAULT_TEXT_CAPACITY = 64;
+
+    // Kind, layer, bitmap or paint id and position of each command. Rectangles also have their
+    // right and bottom edges, points and text the range of their data.
+    private final int[] kind, layer, resource;
+    private final float[] x, y, right, bottom;
+    private final int[] dataStart, dataLength;
+    private int count = 0, dropped = 0;
+
+    // Points and characters of the commands
+    private final float[] points;
+    private final char[] text;
+    private int pointsUsed = 0, textUsed = 0;
+
+    // Commands in drawing order, valid after sort()
+    private final int[] order;
+
+    /**
+     * Constructor
+     *
+     * Preallocates a list with the default capacities.
+     */
+    public DrawList() {
+        this(DEFAULT_CAPACITY, DEFAULT_POINT_CAPACITY, DEFAULT_TEXT_CAPACITY);
+    }
+
+    /**
+     * Constructor
+     *
+     * Preallocates a list with the given capacities.
+     *
+     * @param capacity The largest number of commands.
+     * @param pointCapacity The largest number of point coordinates, two per point.
+     * @param textCapacity The largest number of text characters.
+     */
+    public DrawList(int capacity, int pointCapacity, int textCapacity) {
+        kind = new int[capacity];
+        layer = new int[capacity];
+        resource = new int[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        right = new float[capacity];
+        bottom = new float[capacity];
+        dataStart = new int[capacity];
+        dataLength = new int[capacity];
+        order = new int[capacity];
+        points = new float[pointCapacity];
+        text = new char[textCapacity];
+    }
+
+    /**
+     * clear Method
+     *
+     * Empties the list for the next frame.
+     */
+    public void clear() {
+        count = 0;
+        dropped = 0;
+        pointsUsed = 0;
+        textUsed = 0;
+    }
+
+    /**
+     * addSprite Method
+     *
+     * Adds a bitmap drawn with its top left corner at the given position.
+     *
+     * @param commandLayer The layer of the command.
+     * @param sprite The id of the bitmap.
+     * @param left The x position of the bitmap.
+     * @param top The y position of the bitmap.
+     */
+    public void addSprite(int commandLayer, int sprite, float left, float top) {
+        add(SPRITE, commandLayer, sprite, left, top, 0, 0, 0, 0);
+    }
+
+    /**
+     * addRect Method
+     *
+     * Adds a filled rectangle.
+     *
+     * @param commandLayer The layer of the command.
+     * @param paint The id of the paint.
+     * @param left The left edge of the rectangle.
+     * @param top The top edge of the rectangle.
+     * @param rectRight The right edge of the rectangle.
+     * @param rectBottom The bottom edge of the rectangle.
+     */
+    public void addRect(int commandLayer, int paint, float left, float top, float rectRight, float rectBottom) {
+        add(RECT, commandLayer, paint, left, top, rectRight, rectBottom, 0, 0);
+    }
+
+    /**
+     * addPoints Method
+     *
+     * Adds a batch of points, copied and scaled into the list. The batch is dropped if its
+     * points do not fit.
+     *
+     * @param commandLayer The layer of the command.
+     * @param paint The id of the paint.
+     * @param source The x and y coordinates of the points.
+     * @param length The number of coordinates, two per point.
+     * @param scale The factor the coordinates are multiplied by.
+     */
+    public void addPoints(int commandLayer, int paint, float[] source, int length, float scale) {
+        if (pointsUsed + length > points.length) {
+            dropped++;
+            return;
+        }
+        if (add(POINTS, commandLayer, paint, 0, 0, 0, 0, pointsUsed, length)) {
+            for (int i = 0; i < length; i++) {
+                points[pointsUsed + i] = source[i] * scale;
+            }
+            pointsUsed += length;
+        }
+    }
+
+    /**
+     * addText Method
+     *
+     * Adds a run of text, copied into the list, drawn from the given baseline position. The text
+     * is dropped if it does not fit.
+     *
+     * @param commandLayer The layer of the command.
+     * @param paint The id of the paint.
+     * @param source The characters of the text.
+     * @param start The index of the first character.
+     * @param length The number of characters.
+     * @param left The x position of the text.
+     * @param baseline The y position of the baseline of the text.
+     */
+    public void addText(int commandLayer, int paint, char[] source, int start, int length,
+                        float left, float baseline) {
+        if (textUsed + length > text.length) {
+            dropped++;
+            return;
+        }
+        if (add(TEXT, commandLayer, paint, left, baseline, 0, 0, textUsed, length)) {
+            System.arraycopy(source, start, text, textUsed, length);
+            textUsed += length;
+        }
+    }
+
+    private boolean add(int commandKind, int commandLayer, int id, float left, float top,
+                        float rectRight, float rectBottom, int start, int length) {
+        if (count == kind.length) {
+            dropped++;
+            return false;
+        }
+        int i = count++;
+        kind[i] = commandKind;
+        layer[i] = commandLayer;
+        resource[i] = id;
+        x[i] = left;
+        y[i] = top;
+        right[i] = rectRight;
+        bottom[i] = rectBottom;
+        dataStart[i] = start;
+        dataLength[i] = length;
+        order[i] = i;
+        return true;
+    }
+
+    /**
+     * sort Method
+     *
+     * Orders the commands by layer, then by kind and by bitmap or paint within a layer. The sort
+     * is stable and works in place, an insertion sort that is fast on the few, mostly ordered
+     * commands of a frame.
+     */
+    public void sort() {
+        for (int k = 1; k < count; k++) {
+            int command = order[k];
+            int j = k - 1;
+            while (j >= 0 && compare(order[j], command) > 0) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = command;
+        }
+    }
+
+    private int compare(int a, int b) {
+        if (layer[a] != layer[b]) {
+            return Integer.compare(layer[a], layer[b]);
+        }
+        if (kind[a] != kind[b]) {
+            return Integer.compare(kind[a], kind[b]);
+        }
+        return Integer.compare(resource[a], resource[b]);
+    }
+
+    /**
+     * stateChanges Method
+     *
+     * Counts the changes of drawing state a renderer makes drawing the list in order: each
+     * command whose kind, bitmap or paint differs from the previous one.
+     *
+     * @return The number of state changes, counting the first command.
+     */
+    public int stateChanges() {
+        int changes = 0;
+        for (int k = 0; k < count; k++) {
+            int i = order[k], previous = k > 0 ? order[k - 1] : -1;
+            if (previous < 0 || kind[i] != kind[previous] || resource[i] != resource[previous]) {
+                changes++;
+            }
+        }
+        return changes;
+    }
+
+    // Number of commands, the draw calls of the frame, and the commands dropped since clear()
+    public int count() {
+        return count;
+    }
+
+    public int dropped() {
+        return dropped;
+    }
+
+    // Index of the k-th command in drawing order
+    public int command(int k) {
+        return order[k];
+    }
+
+    public int kind(int i) {
+        return kind[i];
+    }
+
+    public int layer(int i) {
+        return layer[i];
+    }
+
+    public int resource(int i) {
+        return resource[i];
+    }
+
+    public float x(int i) {
+        return x[i];
+    }
+
+    public float y(int i) {
+        return y[i];
+    }
+
+    public float right(int i) {
+        return right[i];
+    }
+
+    public float bottom(int i) {
+        return bottom[i];
+    }
+
+    public int dataStart(int i) {
+        return dataStart[i];
+    }
+
+    public int dataLength(int i) {
+        return dataLength[i];
+    }
+
+    public float[] points() {
+        return points;
+    }
+
+    public char[] text() {
+        return text;
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * EventConsumer Class
+ *
+ * This class drains an EventRing on its own thread and hands each event to a handler, so slow
+ * side effects of the game, such as playing sounds or writing files, run away from the thread
+ * that steps the game. The producer publishes with publish(), which never blocks: it offers the
+ * event to the ring and wakes the consumer if it is parked. The consumer parks when the ring is
+ * empty, with a timeout so a missed wake-up only delays an event.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+import java.util.concurrent.locks.LockSupport;
+
+public class EventConsumer extends Thread {
+
+    // Longest the consumer parks before checking the ring again
+    static final long PARK_NANOS = 2_000_000L;
+
+    /**
+     * Handler Interface
+     *
+     * Receives the events of a consumer, on the consumer thread.
+     */
+    public interface Handler {
+
+        /**
+         * onEvent Method
+         *
+         * Handles one event.
+         *
+         * @param event The encoded event, read with the EventRing decoding methods.
+         */
+        void onEvent(long event);
+    }
+
+    private final EventRing ring;
+    private final Handler handler;
+
+    // Flag to keep the consumer running, cleared by stopConsumer()
+    private volatile boolean running = true;
+
+    // Events handled so far
+    private volatile long handled = 0;
+
+    /**
+     * Constructor
+     *
+     * Creates a consumer thread, not started yet, with its own ring.
+     *
+     * @param name The name of the thread.
+     * @param capacity The smallest number of events the ring holds.
+     * @param handler The handler of the events.
+     */
+    public EventConsumer(String name, int capacity, Handler handler) {
+        super(name);
+        this.ring = new EventRing(capacity);
+        this.handler = handler;
+        setDaemon(true);
+    }
+
+    /**
+     * publish Method
+     *
+     * Publishes an event to the consumer. Only called by the producer thread. Never blocks and
+     * never allocates.
+     *
+     * @param event The encoded event.
+     * @return False if the ring was full and the event was dropped.
+     */
+    public boolean publish(long event) {
+        boolean published = ring.offer(event);
+        LockSupport.unpark(this);
+        return published;
+    }
+
+    /**
+     * run Method
+     *
+     * Consumer loop. Handles the waiting events and parks when there are none. The events still
+     * waiting when the consumer is stopped are handled before the thread ends.
+     */
+    @Override
+    public void run() {
+        while (true) {
+            // Read the flag first, so the ring is seen empty only after every event published
+            // before the stop.
+            boolean stopping = !running;
+            long event = ring.poll();
+            if (event != EventRing.EMPTY) {
+                handler.onEvent(event);
+                handled++;
+            } else if (stopping) {
+                return;
+            } else {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * stopConsumer Method
+     *
+     * Stops the consumer once the waiting events are handled and waits for the thread. Must not
+     * be called from the consumer thread itself.
+     */
+    public void stopConsumer() {
+        running = false;
+        LockSupport.unpark(this);
+        boolean interrupted = false;
+        while (isAlive()) {
+            try {
+                join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Events dropped because the ring was full, read by the producer thread
+    public long dropped() {
+        return ring.dropped();
+    }
+
+    public long handled() {
+        return handled;
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * EventRing Class
+ *
+ * This class passes game events from one producer thread to one consumer thread without locks.
+ * Each event is a single long holding its GameEvents flag, the tick it happened on and a value,
+ * stored in a preallocated ring of primitive slots, so publishing an event never blocks and never
+ * allocates. When the consumer falls so far behind that the ring is full, new events are dropped
+ * and counted instead of waiting.
+ *
+ * The producer owns the write position and the consumer the read position. Each side publishes
+ * its position with an ordered store after touching the slot, and reads the other side's
+ * position only when its cached copy says the ring is full or empty.
+ *
+ * Encoding of an event, from the highest bit: 8 bits GameEvents flag, 24 bits tick, 32 bits value.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class EventRing {
+
+    // Returned by poll() when no event is waiting, never a valid event since its flag is NONE
+    public static final long EMPTY = 0;
+
+    // Slots of a ring when none are given
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    // Slots, a power of two, and the mask turning a position into a slot index
+    private final long[] slots;
+    private final int mask;
+
+    // Positions of the next event to write and to read, published by their owners
+    private final AtomicLong writePosition = new AtomicLong();
+    private final AtomicLong readPosition = new AtomicLong();
+
+    // Producer side: its write position and its last seen read position, and the dropped events
+    private long writeCursor = 0, cachedRead = 0;
+    private long dropped = 0;
+
+    // Consumer side: its read position and its last seen write position
+    private long readCursor = 0, cachedWrite = 0;
+
+    /**
+     * Constructor
+     *
+     * Preallocates a ring with the default number of slots.
+     */
+    public EventRing() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor
+     *
+     * Preallocates a ring with at least the given number of slots, rounded up to a power of two.
+     *
+     * @param capacity The smallest number of events the ring holds.
+     */
+    public EventRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        slots = new long[size];
+        mask = size - 1;
+    }
+
+    /**
+     * encode Method
+     *
+     * Packs an event into a long.
+     *
+     * @param flag The GameEvents flag of the event, a single flag up to 1 << 7.
+     * @param tick The tick of the event, kept modulo 2^24.
+     * @param value The value of the event, such as the points after it.
+     * @return The encoded event.
+     */
+    public static long encode(int flag, int tick, int value) {
+        return ((long) (flag & 0xFF) << 56) | ((long) (tick & 0xFFFFFF) << 32) | (value & 0xFFFFFFFFL);
+    }
+
+    public static int flag(long event) {
+        return (int) (event >>> 56);
+    }
+
+    public static int tick(long event) {
+        return (int) (event >>> 32) & 0xFFFFFF;
+    }
+
+    public static int value(long event) {
+        return (int) event;
+    }
+
+    /**
+     * offer Method
+     *
+     * Publishes an event. Only called by the producer thread. Never blocks.
+     *
+     * @param event The encoded event.
+     * @return False if the ring was full and the event was dropped.
+     */
+    public boolean offer(long event) {
+        if (writeCursor - cachedRead == slots.length) {
+            cachedRead = readPosition.get();
+            if (writeCursor - cachedRead == slots.length) {
+                dropped++;
+                return false;
+            }
+        }
+        slots[(int) writeCursor & mask] = event;
+        writePosition.lazySet(++writeCursor);
+        return true;
+    }
+
+    /**
+     * poll Method
+     *
+     * Takes the oldest waiting event. Only called by the consumer thread. Never blocks.
+     *
+     * @return The encoded event, or EMPTY if none is waiting.
+     */
+    public long poll() {
+        if (readCursor == cachedWrite) {
+            cachedWrite = writePosition.get();
+            if (readCursor == cachedWrite) {
+                return EMPTY;
+            }
+        }
+        long event = slots[(int) readCursor & mask];
+        readPosition.lazySet(++readCursor);
+        return event;
+    }
+
+    // Events dropped because the ring was full, read by the producer thread
+    public long dropped() {
+        return dropped;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    // Events waiting, an estimate when read while the other side is running
+    public int size() {
+        return (int) (writePosition.get() - readPosition.get());
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * FrameHistogram Class
+ *
+ * This class records durations into a fixed-size histogram with buckets of BUCKET_MICROS
+ * microseconds, up to MAX_MILLIS milliseconds; longer durations go to the last bucket. Recording
+ * a duration does not allocate, so it can be done every frame, and percentiles are read from the
+ * buckets when needed.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+import java.util.Arrays;
+
+public class FrameHistogram {
+
+    // Width of a bucket and largest duration with its own bucket
+    public static final int BUCKET_MICROS = 100;
+    public static final int MAX_MILLIS = 200;
+
+    private final int[] buckets = new int[MAX_MILLIS * 1000 / BUCKET_MICROS + 1];
+    private long count = 0;
+    private long totalMicros = 0;
+    private long maxMicros = 0;
+
+    /**
+     * record Method
+     *
+     * Adds a duration to the histogram.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos / 1000);
+        int bucket = (int) Math.min(buckets.length - 1, micros / BUCKET_MICROS);
+        buckets[bucket]++;
+        count++;
+        totalMicros += micros;
+        maxMicros = Math.max(maxMicros, micros);
+    }
+
+    /**
+     * percentileMicros Method
+     *
+     * Estimates a percentile of the recorded durations as the upper edge of the bucket holding it.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The percentile in microseconds, or 0 if nothing was recorded.
+     */
+    public long percentileMicros(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        rank = Math.max(1, Math.min(count, rank));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                // The last bucket has no upper edge, the maximum is the best estimate.
+                if (i == buckets.length - 1) {
+                    return maxMicros;
+                }
+                return Math.min(maxMicros, (long) (i + 1) * BUCKET_MICROS);
+            }
+        }
+        return maxMicros;
+    }
+
+    /**
+     * countAbove Method
+     *
+     * Counts the recorded durations longer than a threshold, rounded to the bucket width.
+     *
+     * @param micros The threshold in microseconds.
+     * @return The number of durations above the threshold.
+     */
+    public long countAbove(long micros) {
+        long above = 0;
+        for (int i = (int) Math.min(buckets.length - 1, micros / BUCKET_MICROS + 1); i < buckets.length; i++) {
+            above += buckets[i];
+        }
+        return above;
+    }
+
+    /**
+     * reset Method
+     *
+     * Clears every recorded duration.
+     */
+    public void reset() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        totalMicros = 0;
+        maxMicros = 0;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long meanMicros() {
+        return count == 0 ? 0 : totalMicros / count;
+    }
+
+    public long maxMicros() {
+        return maxMicros;
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * GameEvents Class
+ *
+ * This class defines the events reported by World.step() and GameSession.tick(). Events are bit
+ * flags, so a single step can report several of them at once without allocating.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+public final class GameEvents {
+
+    // No event happened during the step
+    public static final int NONE = 0;
+
+    // The ball bounced on the paddle
+    public static final int PADDLE_HIT = 1;
+
+    // The ball broke at least one brick
+    public static final int BRICK_BROKEN = 1 << 1;
+
+    // The ball fell below the paddle and a life was lost
+    public static final int LIFE_LOST = 1 << 2;
+
+    // All the bricks of the level are broken
+    public static final int LEVEL_CLEARED = 1 << 3;
+
+    // No lives are left
+    public static final int GAME_OVER = 1 << 4;
+
+    // A multi-ball brick broke and put extra balls in play
+    public static final int MULTI_BALL = 1 << 5;
+
+    // The level was cleared and the next level of the pack was loaded, reported by GameSession
+    public static final int LEVEL_STARTED = 1 << 6;
+
+    // The game ended, lost or with the last level cleared, reported by GameSession
+    public static final int SESSION_FINISHED = 1 << 7;
+
+    // The view of a tall level scrolled up and its bricks were replaced, reported by World. The
+    // flags of the event rings stop at SESSION_FINISHED, so this one stays on the game thread.
+    public static final int FIELD_SCROLLED = 1 << 8;
+
+    private GameEvents() {
+    }
+
+    /**
+     * has Method
+     *
+     * Checks whether a set of events contains the given event.
+     *
+     * @param events The events reported by a step.
+     * @param event The event to look for.
+     * @return True if the event is present.
+     */
+    public static boolean has(int events, int event) {
+        return (events & event) != 0;
+    }
+}
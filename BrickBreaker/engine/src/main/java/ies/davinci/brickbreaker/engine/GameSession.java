@@ -0,0 +1,150 @@
+/**
+ * GameSession Class
+ *
+ * This class plays a whole game on a World: each tick moves the paddle to the requested position,
+ * steps the world and moves on to the next level of the level pack when a level is cleared. The
+ * game finishes when no lives are left or the last level is cleared. A game can also be a single
+ * tall level, streamed and scrolled by the world, which finishes when it is cleared to the top.
+ * The app, the replays and the headless tools all drive the simulation through this class, so
+ * they play by the same rules.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+public class GameSession {
+
+    private final World world;
+
+    // Level pack of the game, or null to play only the default level of the world
+    private final LevelPack levelPack;
+    private int level = 0;
+
+    // Whether the game is over or the last level was cleared
+    private boolean finished = false;
+
+    /**
+     * Constructor
+     *
+     * Starts a game on the given world, loading the first level of the pack.
+     *
+     * @param world The world to play on.
+     * @param levelPack The level pack, or null to play only the default level of the world.
+     */
+    public GameSession(World world, LevelPack levelPack) {
+        this.world = world;
+        this.levelPack = levelPack;
+        if (levelPack != null) {
+            // Sized for the largest level, so moving on to the next one does not allocate.
+            int cellCount = 0;
+            for (int i = 0; i < levelPack.levelCount(); i++) {
+                cellCount = Math.max(cellCount, levelPack.columns(i) * levelPack.rows(i));
+            }
+            world.reserveBricks(cellCount);
+            world.loadLevel(levelPack, level);
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * Starts a game on the given world with a single tall level, loading the view at its bottom.
+     *
+     * @param world The world to play on.
+     * @param tallLevel The streamer of the tall level.
+     */
+    public GameSession(World world, ChunkStreamer tallLevel) {
+        this.world = world;
+        this.levelPack = null;
+        world.loadTallLevel(tallLevel);
+    }
+
+    /**
+     * tick Method
+     *
+     * Plays one tick: moves the paddle, steps the world and loads the next level when the
+     * current one is cleared. Does nothing once the game is finished.
+     *
+     * @param paddleX The requested x position of the paddle.
+     * @return The GameEvents flags of the tick, with LEVEL_STARTED when a new level was loaded
+     *         and SESSION_FINISHED when the game ended.
+     */
+    public int tick(float paddleX) {
+        if (finished) {
+            return GameEvents.NONE;
+        }
+        world.movePaddle(paddleX);
+        int events = world.step();
+        if (GameEvents.has(events, GameEvents.LEVEL_CLEARED) && !GameEvents.has(events, GameEvents.GAME_OVER)
+                && levelPack != null && level + 1 < levelPack.levelCount()) {
+            // Next Level.
+            level++;
+            world.loadLevel(levelPack, level);
+            events |= GameEvents.LEVEL_STARTED;
+        } else if (GameEvents.has(events, GameEvents.GAME_OVER | GameEvents.LEVEL_CLEARED)) {
+            finished = true;
+            events |= GameEvents.SESSION_FINISHED;
+        }
+        return events;
+    }
+
+    /**
+     * restoreLevel Method
+     *
+     * Loads a level of the pack, used when a snapshot is restored.
+     *
+     * @param newLevel The index of the level.
+     */
+    void restoreLevel(int newLevel) {
+        levelBrickCount(newLevel);
+        level = newLevel;
+        finished = false;
+        if (levelPack != null) {
+            world.loadLevel(levelPack, level);
+        }
+    }
+
+    /**
+     * levelBrickCount Method
+     *
+     * Counts the bricks a level of the game starts with, so a snapshot can be checked before it
+     * is restored.
+     *
+     * @param index The index of the level.
+     * @return The number of bricks of the level.
+     * @throws IllegalArgumentException If the game has no such level.
+     */
+    int levelBrickCount(int index) {
+        int levelCount = levelPack == null ? 1 : levelPack.levelCount();
+        if (index < 0 || index >= levelCount) {
+            throw new IllegalArgumentException("Bad level " + index);
+        }
+        return levelPack == null ? world.getBricks().size() : levelPack.brickCount(index);
+    }
+
+    /**
+     * levelsLeft Method
+     *
+     * Counts the levels left to play, the current one included.
+     *
+     * @return The number of levels left.
+     */
+    public int levelsLeft() {
+        return (levelPack == null ? 1 : levelPack.levelCount()) - level;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+}
@@ -0,0 +1,210 @@
+/**
+ * InputLog Class
+ *
+ * This class records everything needed to play a game again exactly: the seed of the random
+ * generator, the sizes the world was created with, and the paddle position requested on every
+ * tick. Paddle positions are whole world units stored as the difference from the previous tick,
+ * zigzag-encoded into a variable number of bytes, so a tick with no movement takes a single byte.
+ *
+ * Format of a replay file, big-endian:
+ *   int magic 'BBRP', short version,
+ *   long seed, int width, int height, int ballWidth, int ballHeight, int paddleWidth,
+ *   int paddleHeight, int tickCount, int byteCount,
+ *   byteCount bytes of encoded paddle deltas.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+public class InputLog {
+
+    // File header
+    public static final int MAGIC = 0x42425250;
+    public static final int VERSION = 1;
+
+    // Initial size of the delta buffer, preallocated so a game does not grow it on the game thread:
+    // over half an hour at 30 ticks a second of deltas under 64 units, which take a byte each
+    private static final int INITIAL_BYTES = 64 * 1024;
+
+    // Seed and sizes of the recorded world
+    private final long seed;
+    private final int width, height, ballWidth, ballHeight, paddleWidth, paddleHeight;
+
+    // Encoded paddle deltas
+    private byte[] bytes;
+    private int byteCount = 0;
+    private int tickCount = 0;
+
+    // Paddle position of the last recorded tick
+    private int lastPaddleX = 0;
+
+    /**
+     * Constructor
+     *
+     * Starts an empty log for a world created with the given seed and sizes.
+     *
+     * @param seed The seed of the random generator of the world.
+     * @param width The width of the playing field.
+     * @param height The height of the playing field.
+     * @param ballWidth The width of the ball.
+     * @param ballHeight The height of the ball.
+     * @param paddleWidth The width of the paddle.
+     * @param paddleHeight The height of the paddle.
+     */
+    public InputLog(long seed, int width, int height, int ballWidth, int ballHeight,
+                    int paddleWidth, int paddleHeight) {
+        this(seed, width, height, ballWidth, ballHeight, paddleWidth, paddleHeight, new byte[INITIAL_BYTES]);
+    }
+
+    private InputLog(long seed, int width, int height, int ballWidth, int ballHeight,
+                     int paddleWidth, int paddleHeight, byte[] bytes) {
+        this.seed = seed;
+        this.width = width;
+        this.height = height;
+        this.ballWidth = ballWidth;
+        this.ballHeight = ballHeight;
+        this.paddleWidth = paddleWidth;
+        this.paddleHeight = paddleHeight;
+        this.bytes = bytes;
+    }
+
+    /**
+     * newWorld Method
+     *
+     * Creates a world exactly like the recorded one.
+     *
+     * @return The new world, seeded with the recorded seed.
+     */
+    public World newWorld() {
+        return new World(width, height, ballWidth, ballHeight, paddleWidth, paddleHeight, new Random(seed));
+    }
+
+    /**
+     * record Method
+     *
+     * Appends the paddle position of one tick. Does not allocate until the preallocated buffer is
+     * full; past it the buffer doubles, once in a very long game.
+     *
+     * @param paddleX The paddle position requested on the tick, in whole world units.
+     */
+    public void record(int paddleX) {
+        if (byteCount + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        }
+        int delta = paddleX - lastPaddleX;
+        lastPaddleX = paddleX;
+
+        // Zigzag, so small negative deltas are small numbers, then 7 bits per byte.
+        int value = (delta << 1) ^ (delta >> 31);
+        while ((value & ~0x7F) != 0) {
+            bytes[byteCount++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[byteCount++] = (byte) value;
+        tickCount++;
+    }
+
+    /**
+     * decode Method
+     *
+     * Decodes the paddle delta that starts at the given byte.
+     *
+     * @param position The index of the first byte of the delta.
+     * @param out Receives the delta in out[0] and the index of the next delta in out[1].
+     */
+    void decode(int position, int[] out) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        out[0] = (value >>> 1) ^ -(value & 1);
+        out[1] = position;
+    }
+
+    /**
+     * write Method
+     *
+     * Writes the log in the replay file format.
+     *
+     * @param out The stream to write to.
+     * @throws IOException If the stream fails.
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeLong(seed);
+        data.writeInt(width);
+        data.writeInt(height);
+        data.writeInt(ballWidth);
+        data.writeInt(ballHeight);
+        data.writeInt(paddleWidth);
+        data.writeInt(paddleHeight);
+        data.writeInt(tickCount);
+        data.writeInt(byteCount);
+        data.write(bytes, 0, byteCount);
+        data.flush();
+    }
+
+    /**
+     * read Method
+     *
+     * Reads a log written by write().
+     *
+     * @param in The stream to read from.
+     * @return The log.
+     * @throws IOException If the stream fails or is not a replay file.
+     */
+    public static InputLog read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        int version = data.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        long seed = data.readLong();
+        int width = data.readInt(), height = data.readInt();
+        int ballWidth = data.readInt(), ballHeight = data.readInt();
+        int paddleWidth = data.readInt(), paddleHeight = data.readInt();
+        int tickCount = data.readInt();
+        int byteCount = data.readInt();
+        if (tickCount < 0 || byteCount < tickCount) {
+            throw new IOException("Bad replay size " + tickCount + " ticks in " + byteCount + " bytes");
+        }
+        byte[] bytes = new byte[byteCount];
+        data.readFully(bytes);
+        InputLog log = new InputLog(seed, width, height, ballWidth, ballHeight, paddleWidth, paddleHeight, bytes);
+        log.byteCount = byteCount;
+        log.tickCount = tickCount;
+        return log;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int tickCount() {
+        return tickCount;
+    }
+
+    public int byteCount() {
+        return byteCount;
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * LevelPack Class
+ *
+ * This class reads the levels of the game from a compact binary level pack. The pack starts with
+ * a header and an index, so any level can be found without reading the ones before it, and only
+ * the requested level is decoded. Levels are decoded straight from the buffer into the brick
+ * store and grid, without building any intermediate objects.
+ *
+ * Format, big-endian:
+ *
+ *   Header:  int magic ('BBLP'), short version (1), short level count
+ *   Index:   for each level, int offset of the level record from the start of the pack
+ *   Level:   ubyte columns, ubyte rows, then columns * rows cell bytes, row by row
+ *   Cell:    0 for no brick, else (type << 4) | hit points, hit points from 1 to 15
+ *
+ * The buffer is usually memory-mapped from the pack file, so opening a pack costs the same
+ * whatever its size.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+public class LevelPack {
+
+    // Header values
+    public static final int MAGIC = 0x42424C50;
+    public static final int VERSION = 1;
+
+    // Size of the header, of an index entry and of the level record header
+    static final int HEADER_BYTES = 8;
+    static final int INDEX_ENTRY_BYTES = 4;
+    static final int LEVEL_HEADER_BYTES = 2;
+
+    private final ByteBuffer buffer;
+    private final int levelCount;
+
+    /**
+     * Constructor
+     *
+     * Wraps a buffer holding a level pack and checks its header.
+     *
+     * @param buffer The level pack, from position 0 to its limit.
+     * @throws IllegalArgumentException If the buffer is not a level pack of a supported version.
+     */
+    public LevelPack(ByteBuffer buffer) {
+        this.buffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        if (this.buffer.limit() < HEADER_BYTES || this.buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a level pack");
+        }
+        if (this.buffer.getShort(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported level pack version " + this.buffer.getShort(4));
+        }
+        levelCount = this.buffer.getShort(6) & 0xFFFF;
+    }
+
+    /**
+     * map Method
+     *
+     * Memory-maps a level pack from a region of a file, for example a packed asset of an APK.
+     *
+     * @param channel The channel of the file.
+     * @param offset The offset of the pack in the file.
+     * @param length The length of the pack.
+     * @return The level pack.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static LevelPack map(FileChannel channel, long offset, long length) throws IOException {
+        return new LevelPack(channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+    }
+
+    /**
+     * levelOffset Method
+     *
+     * Finds the record of a level in the index.
+     *
+     * @param level The index of the level.
+     * @return The offset of the level record.
+     */
+    private int levelOffset(int level) {
+        if (level < 0 || level >= levelCount) {
+            throw new IndexOutOfBoundsException("Level " + level + " of " + levelCount);
+        }
+        return buffer.getInt(HEADER_BYTES + level * INDEX_ENTRY_BYTES);
+    }
+
+    public int levelCount() {
+        return levelCount;
+    }
+
+    public int columns(int level) {
+        return buffer.get(levelOffset(level)) & 0xFF;
+    }
+
+    public int rows(int level) {
+        return buffer.get(levelOffset(level) + 1) & 0xFF;
+    }
+
+    /**
+     * brickCount Method
+     *
+     * Counts the bricks of a level without decoding it.
+     *
+     * @param level The index of the level.
+     * @return The number of bricks the level decodes to.
+     */
+    public int brickCount(int level) {
+        int offset = levelOffset(level);
+        int first = offset + LEVEL_HEADER_BYTES;
+        int cells = (buffer.get(offset) & 0xFF) * (buffer.get(offset + 1) & 0xFF);
+        int count = 0;
+        for (int cell = first; cell < first + cells; cell++) {
+            if (buffer.get(cell) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * decode Method
+     *
+     * Adds the bricks of a level to a brick store and indexes them in a grid. The grid must
+     * already be laid out for the columns and rows of the level.
+     *
+     * @param level The index of the level.
+     * @param bricks The brick store receiving the bricks.
+     * @param grid The grid receiving the brick indexes.
+     */
+    public void decode(int level, BrickStore bricks, BrickGrid grid) {
+        int offset = levelOffset(level);
+        int columns = buffer.get(offset) & 0xFF;
+        int rows = buffer.get(offset + 1) & 0xFF;
+        float width = grid.getCellWidth(), height = grid.getCellHeight();
+
+        int cell = offset + LEVEL_HEADER_BYTES;
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++, cell++) {
+                int value = buffer.get(cell) & 0xFF;
+                if (value != 0) {
+                    int hitPoints = Math.max(1, value & 0x0F);
+                    int index = bricks.add(row, column, width, height, value >> 4, hitPoints);
+                    grid.put(row, column, index);
+                }
+            }
+        }
+    }
+
+    /**
+     * cell Method
+     *
+     * Encodes a brick into a cell byte.
+     *
+     * @param type The type of the brick, from 0 to 15.
+     * @param hitPoints The hits needed to break the brick, from 1 to 15.
+     * @return The cell byte.
+     */
+    public static byte cell(int type, int hitPoints) {
+        return (byte) ((type << 4) | hitPoints);
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * LevelPackWriter Class
+ *
+ * This class builds level packs in the format read by LevelPack. Running it as a program writes
+ * the default levels of the game, which ship as the levels.bblp asset of the app. The Gradle task
+ * :engine:writeLevelPack runs it with that path.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LevelPackWriter {
+
+    // Number of levels of the default pack
+    public static final int DEFAULT_LEVELS = 60;
+
+    // Encoded level records, in order
+    private final List<byte[]> levels = new ArrayList<>();
+
+    /**
+     * addLevel Method
+     *
+     * Adds a level to the pack.
+     *
+     * @param columns The number of brick columns, from 1 to 255.
+     * @param rows The number of brick rows, from 1 to 255.
+     * @param cells The columns * rows cell bytes, row by row, made with LevelPack.cell().
+     */
+    public void addLevel(int columns, int rows, byte[] cells) {
+        if (columns < 1 || columns > 255 || rows < 1 || rows > 255 || cells.length != columns * rows) {
+            throw new IllegalArgumentException("Bad level size " + columns + "x" + rows);
+        }
+        byte[] record = new byte[LevelPack.LEVEL_HEADER_BYTES + cells.length];
+        record[0] = (byte) columns;
+        record[1] = (byte) rows;
+        System.arraycopy(cells, 0, record, LevelPack.LEVEL_HEADER_BYTES, cells.length);
+        levels.add(record);
+    }
+
+    /**
+     * write Method
+     *
+     * Writes the header, the index and the levels.
+     *
+     * @param out The stream to write to.
+     * @throws IOException If the stream fails.
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(LevelPack.MAGIC);
+        data.writeShort(LevelPack.VERSION);
+        data.writeShort(levels.size());
+        int offset = LevelPack.HEADER_BYTES + levels.size() * LevelPack.INDEX_ENTRY_BYTES;
+        for (byte[] level : levels) {
+            data.writeInt(offset);
+            offset += level.length;
+        }
+        for (byte[] level : levels) {
+            data.write(level);
+        }
+        data.flush();
+    }
+
+    /**
+     * toByteArray Method
+     *
+     * Writes the pack into a byte array, used by the tests.
+     *
+     * @return The encoded pack.
+     */
+    public byte[] toByteArray() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            write(out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * addDefaultLevels Method
+     *
+     * Adds the default levels. The first one is the classic full 8x3 wall; the next ones get
+     * wider, taller, gain gaps and need more hits per brick, and from level 2 on a few bricks
+     * are multi-ball bricks.
+     */
+    public void addDefaultLevels() {
+        addDefaultLevels(DEFAULT_LEVELS);
+    }
+
+    /**
+     * addDefaultLevels Method
+     *
+     * Adds the first default levels, used by the batch simulator to play shorter games.
+     *
+     * @param count The number of levels, from 1 to DEFAULT_LEVELS.
+     */
+    public void addDefaultLevels(int count) {
+        addLevel(World.BRICK_COLUMNS, World.BRICK_ROWS,
+                full(World.BRICK_COLUMNS * World.BRICK_ROWS));
+        for (int level = 1; level < Math.min(count, DEFAULT_LEVELS); level++) {
+            int columns = Math.min(32, World.BRICK_COLUMNS + 2 * (level / 4));
+            int rows = Math.min(40, World.BRICK_ROWS + level / 2);
+            byte[] cells = new byte[columns * rows];
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column++) {
+                    // Leave a diagonal pattern of gaps from level 3 on.
+                    boolean gap = level >= 3 && (row + column + level) % (3 + level % 4) == 0;
+                    int hitPoints = 1 + Math.min(14, (rows - 1 - row) * level / 20);
+                    int type = level >= 2 && (row * 7 + column * 3 + level) % 29 == 0
+                            ? BrickStore.TYPE_MULTI_BALL : BrickStore.TYPE_NORMAL;
+                    cells[row * columns + column] = gap ? 0 : LevelPack.cell(type, hitPoints);
+                }
+            }
+            addLevel(columns, rows, cells);
+        }
+    }
+
+    private static byte[] full(int count) {
+        byte[] cells = new byte[count];
+        for (int i = 0; i < count; i++) {
+            cells[i] = LevelPack.cell(BrickStore.TYPE_NORMAL, 1);
+        }
+        return cells;
+    }
+
+    /**
+     * main Method
+     *
+     * Writes the default level pack to the file given as argument.
+     *
+     * @param args The path of the file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: LevelPackWriter <output file>");
+            System.exit(2);
+        }
+        LevelPackWriter writer = new LevelPackWriter();
+        writer.addDefaultLevels();
+        try (OutputStream out = new FileOutputStream(args[0])) {
+            writer.write(out);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * NumberText Class
+ *
+ * This class formats a non-negative number into a reusable char buffer, so the HUD can draw the
+ * points every frame with Canvas.drawText(char[], int, int, ...) instead of building a new
+ * String. The buffer is only rewritten when the number changes.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+public class NumberText {
+
+    // Enough digits for any int
+    private static final int MAX_DIGITS = 10;
+
+    // Digits of the number, right aligned in the buffer
+    private final char[] chars = new char[MAX_DIGITS];
+    private int start = MAX_DIGITS - 1;
+    private int value = 0;
+
+    /**
+     * Constructor
+     *
+     * Initializes the text with the number 0.
+     */
+    public NumberText() {
+        chars[start] = '0';
+    }
+
+    /**
+     * set Method
+     *
+     * Formats a new number into the buffer. Negative numbers are shown as 0.
+     *
+     * @param newValue The number to show.
+     */
+    public void set(int newValue) {
+        newValue = Math.max(0, newValue);
+        if (newValue == value) {
+            return;
+        }
+        value = newValue;
+        int i = MAX_DIGITS;
+        do {
+            chars[--i] = (char) ('0' + newValue % 10);
+            newValue /= 10;
+        } while (newValue > 0);
+        start = i;
+    }
+
+    // Arguments for Canvas.drawText(char[] text, int index, int count, ...).
+
+    public char[] chars() {
+        return chars;
+    }
+
+    public int start() {
+        return start;
+    }
+
+    public int length() {
+        return MAX_DIGITS - start;
+    }
+
+    /**
+     * toString Method
+     *
+     * Builds a String with the number, for tests and logs only.
+     *
+     * @return The formatted number.
+     */
+    @Override
+    public String toString() {
+        return new String(chars, start, length());
+    }
+}
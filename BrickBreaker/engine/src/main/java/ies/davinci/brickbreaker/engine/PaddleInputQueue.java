@@ -0,0 +1,147 @@
+/**
+ * PaddleInputQueue Class
+ *
+ * This class hands the paddle positions requested by touch input to the simulation. The UI
+ * thread adds every touch sample, including the batched historical ones, with its timestamp. The
+ * game thread asks for the position at the time of each tick, or of the vsync for the last tick
+ * of a frame: the samples up to that time are consumed, and the position is interpolated between
+ * the last consumed sample and the next one when that one has already arrived. The paddle
+ * therefore only moves at tick boundaries, follows the finger between samples, the earlier ticks
+ * of a late frame still see where the finger was at their own time, and the frame shows the
+ * newest input.
+ *
+ * Samples are kept in a fixed ring of primitive arrays, so adding and reading never allocate.
+ * When the ring is full the oldest sample is dropped. Every method is synchronized, so one thread
+ * can add samples while another reads them.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+public class PaddleInputQueue {
+
+    // Samples kept when no capacity is given
+    public static final int DEFAULT_CAPACITY = 256;
+
+    // Time returned by takeLatencyNanos() when no sample was consumed
+    public static final long NO_LATENCY = -1;
+
+    // Pending samples: time in nanoseconds and requested paddle position
+    private final long[] times;
+    private final float[] positions;
+    private int head = 0, count = 0;
+
+    // Last consumed sample, and whether there is one
+    private long lastTime = 0;
+    private float lastPosition;
+    private boolean hasLast = false;
+
+    // Age of the newest sample consumed by the last ticks, or NO_LATENCY
+    private long latencyNanos = NO_LATENCY;
+
+    /**
+     * Constructor
+     *
+     * Creates an empty queue with the default capacity.
+     *
+     * @param initialPosition The paddle position until the first sample arrives.
+     */
+    public PaddleInputQueue(float initialPosition) {
+        this(DEFAULT_CAPACITY, initialPosition);
+    }
+
+    /**
+     * Constructor
+     *
+     * Creates an empty queue.
+     *
+     * @param capacity The number of samples kept before the oldest ones are dropped.
+     * @param initialPosition The paddle position until the first sample arrives.
+     */
+    public PaddleInputQueue(int capacity, float initialPosition) {
+        times = new long[capacity];
+        positions = new float[capacity];
+        lastPosition = initialPosition;
+    }
+
+    /**
+     * add Method
+     *
+     * Adds a sample. Samples must be added in time order.
+     *
+     * @param timeNanos The time of the sample, on the same clock as the tick times.
+     * @param position The paddle position requested by the sample.
+     */
+    public synchronized void add(long timeNanos, float position) {
+        if (count == times.length) {
+            head = (head + 1) % times.length;
+            count--;
+        }
+        int i = (head + count++) % times.length;
+        times[i] = timeNanos;
+        positions[i] = position;
+    }
+
+    /**
+     * positionAt Method
+     *
+     * Consumes the samples up to the tick time and computes the paddle position at that time.
+     * Positions are interpolated between samples but never extrapolated past the newest one.
+     *
+     * @param tickNanos The time of the tick.
+     * @return The paddle position at the tick time.
+     */
+    public synchronized float positionAt(long tickNanos) {
+        boolean consumed = false;
+        while (count > 0 && times[head] <= tickNanos) {
+            lastTime = times[head];
+            lastPosition = positions[head];
+            head = (head + 1) % times.length;
+            count--;
+            consumed = true;
+        }
+        hasLast |= consumed;
+        if (consumed) {
+            latencyNanos = tickNanos - lastTime;
+        }
+        if (hasLast && count > 0 && times[head] > lastTime) {
+            // In double, so rounding never moves the position past the line between the samples.
+            double fraction = (double) (tickNanos - lastTime) / (times[head] - lastTime);
+            return (float) (lastPosition + (positions[head] - lastPosition) * fraction);
+        }
+        return lastPosition;
+    }
+
+    /**
+     * latest Method
+     *
+     * Retrieves the newest requested position, consumed or not. The touch handler moves the
+     * paddle relative to it when a new drag starts.
+     *
+     * @return The newest requested paddle position.
+     */
+    public synchronized float latest() {
+        return count > 0 ? positions[(head + count - 1) % times.length] : lastPosition;
+    }
+
+    /**
+     * takeLatencyNanos Method
+     *
+     * Retrieves how old the newest consumed sample was when its tick ran, and forgets it.
+     *
+     * @return The latency in nanoseconds, or NO_LATENCY if no sample was consumed since the last
+     *         call.
+     */
+    public synchronized long takeLatencyNanos() {
+        long latency = latencyNanos;
+        latencyNanos = NO_LATENCY;
+        return latency;
+    }
+
+    public synchronized int pendingCount() {
+        return count;
+    }
+}
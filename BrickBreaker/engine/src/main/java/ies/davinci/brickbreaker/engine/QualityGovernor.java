@@ -0,0 +1,193 @@
+/**
+ * QualityGovernor Class
+ *
+ * This class adapts how much the game draws to what the device can keep up with. The game loop
+ * reports the update and draw time of every vsync, and every WINDOW_FRAMES vsyncs the governor
+ * compares their average to the frame budget. When the frames take too long it steps the quality
+ * down one level: first fewer particles per burst, then no particles at all so only the cached
+ * brick layer and the sprites are drawn, then drawing only every second and every third vsync.
+ * The ticks keep running at their fixed rate on every vsync, only the drawing is thinned out.
+ * When the frames at the next level up are expected to fit well within the budget for
+ * UP_WINDOWS windows in a row, it steps back up one level.
+ *
+ * The thermal status of the device, when it is known, sets the lowest level allowed, so a hot
+ * device sheds work before it is throttled rather than after. The thermal status can be set from
+ * any thread; the frames are reported and the level read on the game thread.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+public class QualityGovernor {
+
+    // Quality levels, from the best
+    public static final int LEVEL_FULL = 0, LEVEL_FEWER_EFFECTS = 1, LEVEL_CACHED_ONLY = 2;
+    public static final int LEVEL_HALF_RATE = 3, LEVEL_THIRD_RATE = 4;
+    public static final int LEVEL_COUNT = 5;
+
+    // Thermal status values, the same as the PowerManager THERMAL_STATUS_* constants
+    public static final int THERMAL_NONE = 0, THERMAL_LIGHT = 1, THERMAL_MODERATE = 2;
+    public static final int THERMAL_SEVERE = 3, THERMAL_CRITICAL = 4;
+
+    // Vsyncs averaged before each decision
+    public static final int WINDOW_FRAMES = 30;
+
+    // Calm windows in a row needed to step up
+    public static final int UP_WINDOWS = 4;
+
+    // Share of the budget, in percent, above which the level steps down, and below which the
+    // expected cost of the next level up must stay for it to step up
+    static final int DOWN_PERCENT = 80, UP_PERCENT = 55;
+
+    // Vsyncs per drawn frame and share of the particles of a burst, in percent, of each level
+    private static final int[] RENDER_INTERVALS = {1, 1, 1, 2, 3};
+    private static final int[] PARTICLE_PERCENTS = {100, 50, 0, 0, 0};
+
+    // Lowest level allowed by each thermal status, the statuses above critical as critical
+    private static final int[] THERMAL_FLOORS = {
+            LEVEL_FULL, LEVEL_FULL, LEVEL_FEWER_EFFECTS, LEVEL_CACHED_ONLY, LEVEL_HALF_RATE};
+
+    // Frame budget, one refresh period of the display
+    private final long budgetNanos;
+
+    // Current level, and the calm windows in a row at it
+    private int level = LEVEL_FULL;
+    private int calmWindows = 0;
+
+    // Sums of the update and draw times of the current window, its vsyncs and its drawn frames
+    private long updateNanos = 0, drawNanos = 0;
+    private int frames = 0, drawnFrames = 0;
+
+    // Average cost of a vsync in the last window
+    private long lastCostNanos = 0;
+
+    // Last thermal status reported
+    private volatile int thermalStatus = THERMAL_NONE;
+
+    /**
+     * Constructor
+     *
+     * Creates a governor at full quality for the given frame budget.
+     *
+     * @param budgetNanos The frame budget in nanoseconds, one refresh period of the display.
+     */
+    public QualityGovernor(long budgetNanos) {
+        if (budgetNanos <= 0) {
+            throw new IllegalArgumentException("Bad frame budget " + budgetNanos);
+        }
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * recordFrame Method
+     *
+     * Reports one vsync of the game loop and, at the end of a window, steps the level. Called
+     * by the game thread. Does not allocate.
+     *
+     * @param update The time spent on the ticks of the vsync, in nanoseconds.
+     * @param draw The time spent drawing, in nanoseconds, 0 if the frame was not drawn.
+     * @param drawn Whether the frame was drawn.
+     */
+    public void recordFrame(long update, long draw, boolean drawn) {
+        updateNanos += update;
+        drawNanos += draw;
+        frames++;
+        if (drawn) {
+            drawnFrames++;
+        }
+        if (frames < WINDOW_FRAMES) {
+            return;
+        }
+
+        lastCostNanos = (updateNanos + drawNanos) / frames;
+        int floor = thermalFloor();
+        if (level < floor) {
+            setLevel(floor);
+        } else if (lastCostNanos * 100 > budgetNanos * DOWN_PERCENT) {
+            if (level < LEVEL_COUNT - 1) {
+                setLevel(level + 1);
+            }
+        } else if (level > floor && expectedCostAt(level - 1) * 100 < budgetNanos * UP_PERCENT) {
+            if (++calmWindows >= UP_WINDOWS) {
+                setLevel(level - 1);
+            }
+        } else {
+            calmWindows = 0;
+        }
+
+        updateNanos = 0;
+        drawNanos = 0;
+        frames = 0;
+        drawnFrames = 0;
+    }
+
+    /**
+     * expectedCostAt Method
+     *
+     * Estimates the average cost of a vsync at another level from the last window: the same
+     * update time, and the same draw time per drawn frame spread over the vsyncs of that level.
+     * The effects the level adds back are not known, which UP_PERCENT leaves room for.
+     *
+     * @param other The other level.
+     * @return The expected cost of a vsync, in nanoseconds.
+     */
+    private long expectedCostAt(int other) {
+        long drawPerFrame = drawnFrames == 0 ? 0 : drawNanos / drawnFrames;
+        return updateNanos / frames + drawPerFrame / RENDER_INTERVALS[other];
+    }
+
+    private void setLevel(int newLevel) {
+        level = newLevel;
+        calmWindows = 0;
+    }
+
+    private int thermalFloor() {
+        int status = thermalStatus;
+        return THERMAL_FLOORS[Math.max(THERMAL_NONE, Math.min(THERMAL_CRITICAL, status))];
+    }
+
+    /**
+     * setThermalStatus Method
+     *
+     * Reports the thermal status of the device. Safe to call from any thread; it takes effect at
+     * the end of the current window.
+     *
+     * @param status The thermal status, one of the PowerManager THERMAL_STATUS_* values.
+     */
+    public void setThermalStatus(int status) {
+        thermalStatus = status;
+    }
+
+    public int getThermalStatus() {
+        return thermalStatus;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    // Vsyncs per drawn frame at the current level
+    public int renderInterval() {
+        return RENDER_INTERVALS[level];
+    }
+
+    /**
+     * particlesPerBurst Method
+     *
+     * Scales the particles of a burst to the current level.
+     *
+     * @param full The particles of a burst at full quality.
+     * @return The particles to emit, 0 when the level draws no effects.
+     */
+    public int particlesPerBurst(int full) {
+        return full * PARTICLE_PERCENTS[level] / 100;
+    }
+
+    // Average cost of a vsync in the last window, in nanoseconds
+    public long getLastCostNanos() {
+        return lastCostNanos;
+    }
+}
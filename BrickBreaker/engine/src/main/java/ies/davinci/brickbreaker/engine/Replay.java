@@ -0,0 +1,135 @@
+/**
+ * Replay Class
+ *
+ * This class plays a recorded InputLog again on a new GameSession, tick by tick, without
+ * rendering or waiting for frames. The world is created with the recorded seed and fed the
+ * recorded paddle positions, so it goes through exactly the same states as the recorded game.
+ * Running it as a program plays a replay file at full speed and prints the result and the
+ * ticks per second, which makes a recorded game a repeatable benchmark and regression fixture.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+
+public class Replay {
+
+    private final InputLog log;
+    private final GameSession session;
+
+    // Ticks played, position of the next delta and paddle position of the last tick
+    private int tick = 0;
+    private int position = 0;
+    private int paddleX = 0;
+    private final int[] decoded = new int[2];
+
+    /**
+     * Constructor
+     *
+     * Prepares the replay of a log on a new world.
+     *
+     * @param log The recorded game.
+     * @param levelPack The level pack the game was recorded with, or null if none was used.
+     */
+    public Replay(InputLog log, LevelPack levelPack) {
+        this.log = log;
+        session = new GameSession(log.newWorld(), levelPack);
+    }
+
+    /**
+     * hasNext Method
+     *
+     * Checks whether there are ticks left to play.
+     *
+     * @return True if the log has more ticks and the game is not finished.
+     */
+    public boolean hasNext() {
+        return tick < log.tickCount() && !session.isFinished();
+    }
+
+    /**
+     * step Method
+     *
+     * Plays the next recorded tick.
+     *
+     * @return The GameEvents flags of the tick.
+     */
+    public int step() {
+        log.decode(position, decoded);
+        paddleX += decoded[0];
+        position = decoded[1];
+        tick++;
+        return session.tick(paddleX);
+    }
+
+    /**
+     * playToEnd Method
+     *
+     * Plays every tick left.
+     *
+     * @return The session, in its final state.
+     */
+    public GameSession playToEnd() {
+        while (hasNext()) {
+            step();
+        }
+        return session;
+    }
+
+    public GameSession getSession() {
+        return session;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * main Method
+     *
+     * Plays a replay file headless and prints the final points, lives and level, and how fast
+     * it was played.
+     *
+     * @param args The replay file, and the level pack the game was recorded with if it used one.
+     * @throws IOException If a file cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: Replay <replay file> [level pack]");
+            System.exit(2);
+        }
+        InputLog log;
+        try (InputStream in = new BufferedInputStream(new FileInputStream(args[0]))) {
+            log = InputLog.read(in);
+        }
+        LevelPack levelPack = null;
+        if (args.length == 2) {
+            try (RandomAccessFile file = new RandomAccessFile(args[1], "r")) {
+                FileChannel channel = file.getChannel();
+                levelPack = LevelPack.map(channel, 0, channel.size());
+            }
+        }
+
+        long start = System.nanoTime();
+        Replay replay = new Replay(log, levelPack);
+        GameSession session = replay.playToEnd();
+        long elapsed = System.nanoTime() - start;
+
+        World world = session.getWorld();
+        System.out.println("Ticks:  " + replay.getTick() + " of " + log.tickCount());
+        System.out.println("Points: " + world.getPoints());
+        System.out.println("Lives:  " + world.getLife());
+        System.out.println("Level:  " + (session.getLevel() + 1));
+        System.out.printf("Played in %.1f ms, %.0f ticks/s%n",
+                elapsed / 1e6, replay.getTick() * 1e9 / Math.max(1, elapsed));
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * ScoreBoard Class
+ *
+ * This class adds up the games played on the device: the best scores, each with the levels
+ * cleared and when it was played, and the totals of every session. Boards are combined the same
+ * way SimulationSummary is, so the games recorded before the saved ones were loaded can be
+ * merged with them in any order. It is not thread-safe; ScoreStore guards its board and hands
+ * out copies.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+public class ScoreBoard {
+
+    // Best scores kept
+    public static final int TOP_SCORES = 10;
+
+    // Best scores, from the highest, with the levels cleared and the time they were played at
+    private final int[] topPoints = new int[TOP_SCORES];
+    private final int[] topLevels = new int[TOP_SCORES];
+    private final long[] topTimes = new long[TOP_SCORES];
+    private int topCount = 0;
+
+    // Games played and won, and sums and maximums of their results
+    private int games = 0, wins = 0;
+    private long totalPoints = 0, totalTicks = 0;
+    private int bestLevels = 0;
+
+    /**
+     * add Method
+     *
+     * Adds the result of one game.
+     *
+     * @param timeMillis The time the game ended, in milliseconds since the epoch.
+     * @param points The points scored.
+     * @param levelsCleared The levels cleared.
+     * @param ticks The ticks the game lasted.
+     * @param won Whether the last level was cleared.
+     */
+    public void add(long timeMillis, int points, int levelsCleared, int ticks, boolean won) {
+        games++;
+        if (won) {
+            wins++;
+        }
+        totalPoints += points;
+        totalTicks += ticks;
+        bestLevels = Math.max(bestLevels, levelsCleared);
+        addTopScore(timeMillis, points, levelsCleared);
+    }
+
+    /**
+     * combine Method
+     *
+     * Adds the games of another board.
+     *
+     * @param other The other board.
+     */
+    public void combine(ScoreBoard other) {
+        games += other.games;
+        wins += other.wins;
+        totalPoints += other.totalPoints;
+        totalTicks += other.totalTicks;
+        bestLevels = Math.max(bestLevels, other.bestLevels);
+        for (int i = 0; i < other.topCount; i++) {
+            addTopScore(other.topTimes[i], other.topPoints[i], other.topLevels[i]);
+        }
+    }
+
+    /**
+     * copy Method
+     *
+     * Creates an independent copy of the board.
+     *
+     * @return The copy.
+     */
+    public ScoreBoard copy() {
+        ScoreBoard copy = new ScoreBoard();
+        copy.combine(this);
+        return copy;
+    }
+
+    /**
+     * addTopScore Method
+     *
+     * Inserts a score in the best scores if it is high enough, after the equal scores already
+     * there.
+     */
+    private void addTopScore(long timeMillis, int points, int levelsCleared) {
+        int i = Math.min(topCount, TOP_SCORES - 1);
+        if (topCount == TOP_SCORES && points <= topPoints[i]) {
+            return;
+        }
+        for (; i > 0 && topPoints[i - 1] < points; i--) {
+            topPoints[i] = topPoints[i - 1];
+            topLevels[i] = topLevels[i - 1];
+            topTimes[i] = topTimes[i - 1];
+        }
+        topPoints[i] = points;
+        topLevels[i] = levelsCleared;
+        topTimes[i] = timeMillis;
+        topCount = Math.min(topCount + 1, TOP_SCORES);
+    }
+
+    public int getHighScore() {
+        return topCount == 0 ? 0 : topPoints[0];
+    }
+
+    public int topCount() {
+        return topCount;
+    }
+
+    public int topPoints(int i) {
+        return topPoints[i];
+    }
+
+    public int topLevels(int i) {
+        return topLevels[i];
+    }
+
+    public long topTime(int i) {
+        return topTimes[i];
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public long getTotalPoints() {
+        return totalPoints;
+    }
+
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    public int getBestLevels() {
+        return bestLevels;
+    }
+}
@@ -0,0 +1,320 @@
+/**
+ * ScoreStore Class
+ *
+ * This class keeps the scores and session stats of the game in an append-only file, behind an
+ * in-memory ScoreBoard. Recording a game only adds it to the board and queues its encoded record,
+ * so the game-over path never waits for the disk. A single background thread, started on first
+ * use, loads the file into the board and then appends the queued records, each batch of records
+ * waiting in the queue in one write. A batch that cannot be written is kept and written again,
+ * with the records queued since, every RETRY_MILLIS until the write succeeds.
+ *
+ * Games recorded before the file is loaded are kept on the board and merged with the loaded ones,
+ * so reads never block either: before the load finishes they only see the games of this run.
+ *
+ * Format, big-endian:
+ *
+ *   Header:  int magic ('BBHS'), short version (1)
+ *   Record:  long end time in milliseconds, int points, int levels cleared, int ticks, byte won
+ *
+ * A record cut short by a crash is truncated away when the file is loaded, and a file that is not
+ * a score file is started again empty.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class ScoreStore {
+
+    // Header values
+    public static final int MAGIC = 0x42424853;
+    public static final int VERSION = 1;
+
+    // Size of the header and of a record
+    static final int HEADER_BYTES = 6;
+    static final int RECORD_BYTES = 21;
+
+    // Time between attempts to write a batch that could not be written
+    static final long RETRY_MILLIS = 200;
+
+    private final File file;
+
+    // Games recorded and loaded so far, guarded by this
+    private final ScoreBoard board = new ScoreBoard();
+    private boolean loaded = false;
+
+    // Encoded records waiting to be written, and the records queued and written so far
+    private final LinkedBlockingQueue<byte[]> queue = new LinkedBlockingQueue<>();
+    private long queued = 0, written = 0;
+
+    // Last error of the writer thread, or null, and whether the last write failed, guarded by this
+    private volatile IOException lastError;
+    private boolean failing = false;
+
+    // Writer thread, started on first use
+    private Thread writer;
+
+    /**
+     * Constructor
+     *
+     * Creates a store for the given file. Nothing is read until the store is first used.
+     *
+     * @param file The score file, created when the first game is written.
+     */
+    public ScoreStore(File file) {
+        this.file = file;
+    }
+
+    /**
+     * preload Method
+     *
+     * Starts loading the file in the background, so the board is ready when it is first read.
+     */
+    public synchronized void preload() {
+        startWriter();
+    }
+
+    /**
+     * record Method
+     *
+     * Adds a game to the board and queues it to be appended to the file. Never blocks on I/O.
+     *
+     * @param timeMillis The time the game ended, in milliseconds since the epoch.
+     * @param points The points scored.
+     * @param levelsCleared The levels cleared.
+     * @param ticks The ticks the game lasted.
+     * @param won Whether the last level was cleared.
+     */
+    public synchronized void record(long timeMillis, int points, int levelsCleared, int ticks, boolean won) {
+        startWriter();
+        board.add(timeMillis, points, levelsCleared, ticks, won);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+        record.putLong(timeMillis).putInt(points).putInt(levelsCleared).putInt(ticks).put((byte) (won ? 1 : 0));
+        queued++;
+        queue.add(record.array());
+    }
+
+    /**
+     * board Method
+     *
+     * Retrieves a copy of the board, with the saved games once they are loaded and every game
+     * recorded since the store was created.
+     *
+     * @return The copy of the board.
+     */
+    public synchronized ScoreBoard board() {
+        startWriter();
+        return board.copy();
+    }
+
+    /**
+     * isLoaded Method
+     *
+     * Checks whether the file has been loaded into the board.
+     *
+     * @return True once the saved games are on the board.
+     */
+    public synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * getLastError Method
+     *
+     * Retrieves the last error of the writer thread, kept after a later write succeeds.
+     *
+     * @return The last error, or null if reading and writing the file never failed.
+     */
+    public IOException getLastError() {
+        return lastError;
+    }
+
+    /**
+     * flush Method
+     *
+     * Waits until the file is loaded and every game recorded so far is written, for tests and
+     * for callers that are about to lose the process. Returns early if a write fails; the
+     * records are still kept and written again by the writer thread.
+     *
+     * @param timeoutMillis The longest time to wait.
+     * @return True if everything was written in time, false on timeout or if the last write
+     *         failed.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public synchronized boolean flush(long timeoutMillis) throws InterruptedException {
+        startWriter();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long target = queued;
+        while (!loaded || written < target) {
+            if (failing) {
+                return false;
+            }
+            long left = deadline - System.currentTimeMillis();
+            if (left <= 0) {
+                return false;
+            }
+            wait(left);
+        }
+        return true;
+    }
+
+    /**
+     * startWriter Method
+     *
+     * Starts the writer thread if it is not running yet. Called with the lock held.
+     */
+    private void startWriter() {
+        if (writer != null) {
+            return;
+        }
+        writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                writeBehind();
+            }
+        }, "ScoreStore");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * writeBehind Method
+     *
+     * Body of the writer thread: loads the file, then appends the queued records in batches. A
+     * batch that fails is kept and tried again after RETRY_MILLIS, or sooner with the next record.
+     */
+    private void writeBehind() {
+        ScoreBoard saved = new ScoreBoard();
+        try {
+            load(saved);
+        } catch (IOException e) {
+            lastError = e;
+        }
+        synchronized (this) {
+            board.combine(saved);
+            loaded = true;
+            notifyAll();
+        }
+
+        List<byte[]> batch = new ArrayList<>();
+        while (true) {
+            try {
+                if (batch.isEmpty()) {
+                    batch.add(queue.take());
+                } else {
+                    byte[] record = queue.poll(RETRY_MILLIS, TimeUnit.MILLISECONDS);
+                    if (record != null) {
+                        batch.add(record);
+                    }
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+            try {
+                append(batch);
+            } catch (IOException e) {
+                // Keep the batch, so it is written with the next attempt.
+                lastError = e;
+                synchronized (this) {
+                    failing = true;
+                    notifyAll();
+                }
+                continue;
+            }
+            synchronized (this) {
+                written += batch.size();
+                failing = false;
+                notifyAll();
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * load Method
+     *
+     * Reads every whole record of the file into a board. A missing file is an empty board. A
+     * partial last record is truncated, and a file with a bad header is emptied, so the records
+     * appended next are aligned.
+     *
+     * @param into The board the records are added to.
+     * @throws IOException If the file cannot be read.
+     */
+    private void load(ScoreBoard into) throws IOException {
+        if (!file.exists()) {
+            return;
+        }
+        try (RandomAccessFile in = new RandomAccessFile(file, "rw")) {
+            long length = in.length();
+            if (length < HEADER_BYTES || in.readInt() != MAGIC || in.readShort() != VERSION) {
+                in.setLength(0);
+                return;
+            }
+            long records = (length - HEADER_BYTES) / RECORD_BYTES;
+            byte[] bytes = new byte[(int) (records * RECORD_BYTES)];
+            in.readFully(bytes);
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            for (long r = 0; r < records; r++) {
+                into.add(buffer.getLong(), buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.get() != 0);
+            }
+            in.setLength(HEADER_BYTES + records * RECORD_BYTES);
+        }
+    }
+
+    /**
+     * append Method
+     *
+     * Appends a batch of records to the file in one write, writing the header first if the file
+     * is empty. A write that fails part way is cut back off, so the batch can be written again.
+     *
+     * @param batch The encoded records.
+     * @throws IOException If the file cannot be written.
+     */
+    private void append(List<byte[]> batch) throws IOException {
+        long start = file.exists() ? file.length() : 0;
+        boolean empty = start == 0;
+        ByteBuffer bytes = ByteBuffer.allocate((empty ? HEADER_BYTES : 0) + batch.size() * RECORD_BYTES);
+        if (empty) {
+            bytes.putInt(MAGIC).putShort((short) VERSION);
+        }
+        for (byte[] record : batch) {
+            bytes.put(record);
+        }
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write(bytes.array());
+        } catch (IOException e) {
+            truncate(start);
+            throw e;
+        }
+    }
+
+    /**
+     * truncate Method
+     *
+     * Cuts the file back to the given length, dropping what a failed write left behind.
+     *
+     * @param length The length the file had before the write.
+     */
+    private void truncate(long length) {
+        if (file.exists() && file.length() > length) {
+            try (RandomAccessFile out = new RandomAccessFile(file, "rw")) {
+                out.setLength(length);
+            } catch (IOException ignored) {
+                // Left for load() to find: a partial record is truncated when the file is loaded.
+            }
+        }
+    }
+}
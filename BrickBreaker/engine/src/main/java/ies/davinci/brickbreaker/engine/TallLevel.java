@@ -0,0 +1,201 @@
+/**
+ * TallLevel Class
+ *
+ * This class reads a tall level: a single level of any number of brick rows, far more than fit on
+ * the screen, played by scrolling up through it. Its cells use the same bytes as a LevelPack, but
+ * rows are read a few at a time by a ChunkStreamer, straight from the buffer, so the level is
+ * never decoded or held in memory whole.
+ *
+ * Format, big-endian:
+ *
+ *   Header:  int magic ('BBTL'), short version (1), short columns, int rows, int brick count
+ *   Cells:   columns * rows cell bytes, row by row from the top of the level, as in LevelPack
+ *
+ * The buffer is usually memory-mapped from the level file, so opening a level costs the same
+ * whatever its size, and the rows that were read can be paged out again by the system. Reads only
+ * use absolute positions, so the loader thread and the game thread can read the same level.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+public class TallLevel {
+
+    // Header values
+    public static final int MAGIC = 0x4242544C;
+    public static final int VERSION = 1;
+
+    // Size of the header
+    static final int HEADER_BYTES = 16;
+
+    // Columns and rows of the default tall level
+    public static final int DEFAULT_COLUMNS = World.BRICK_COLUMNS;
+    public static final int DEFAULT_ROWS = 5000;
+
+    private final ByteBuffer buffer;
+    private final int columns, rows, brickCount;
+
+    /**
+     * Constructor
+     *
+     * Wraps a buffer holding a tall level and checks its header.
+     *
+     * @param buffer The tall level, from position 0 to its limit.
+     * @throws IllegalArgumentException If the buffer is not a tall level of a supported version.
+     */
+    public TallLevel(ByteBuffer buffer) {
+        this.buffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        if (this.buffer.limit() < HEADER_BYTES || this.buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a tall level");
+        }
+        if (this.buffer.getShort(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported tall level version " + this.buffer.getShort(4));
+        }
+        columns = this.buffer.getShort(6) & 0xFFFF;
+        rows = this.buffer.getInt(8);
+        brickCount = this.buffer.getInt(12);
+        if (columns < 1 || rows < 1 || this.buffer.limit() < HEADER_BYTES + (long) columns * rows) {
+            throw new IllegalArgumentException("Bad tall level size " + columns + "x" + rows);
+        }
+    }
+
+    /**
+     * map Method
+     *
+     * Memory-maps a tall level from a region of a file, for example a packed asset of an APK.
+     *
+     * @param channel The channel of the file.
+     * @param offset The offset of the level in the file.
+     * @param length The length of the level.
+     * @return The tall level.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static TallLevel map(FileChannel channel, long offset, long length) throws IOException {
+        return new TallLevel(channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    // Bricks of the whole level, from the header, so the level is never scanned
+    public int brickCount() {
+        return brickCount;
+    }
+
+    /**
+     * readRows Method
+     *
+     * Copies the cell bytes of consecutive rows. Rows past the bottom of the level are empty.
+     *
+     * @param firstRow The first row to read.
+     * @param count The number of rows.
+     * @param out The array receiving count * columns() cell bytes, row by row.
+     */
+    public void readRows(int firstRow, int count, byte[] out) {
+        int readable = Math.max(0, Math.min(count, rows - firstRow));
+        int cell = HEADER_BYTES + firstRow * columns;
+        for (int i = 0; i < readable * columns; i++) {
+            out[i] = buffer.get(cell + i);
+        }
+        for (int i = readable * columns; i < count * columns; i++) {
+            out[i] = 0;
+        }
+    }
+
+    /**
+     * encode Method
+     *
+     * Encodes a tall level, counting its bricks.
+     *
+     * @param columns The number of brick columns, from 1 to 65535.
+     * @param cells The cell bytes, row by row, made with LevelPack.cell(), a multiple of columns.
+     * @return The encoded level.
+     */
+    public static byte[] encode(int columns, byte[] cells) {
+        if (columns < 1 || columns > 0xFFFF || cells.length == 0 || cells.length % columns != 0) {
+            throw new IllegalArgumentException("Bad tall level size " + columns + " columns, " + cells.length + " cells");
+        }
+        int bricks = 0;
+        for (byte cell : cells) {
+            if (cell != 0) {
+                bricks++;
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_BYTES + cells.length);
+        try {
+            DataOutputStream data = new DataOutputStream(bytes);
+            data.writeInt(MAGIC);
+            data.writeShort(VERSION);
+            data.writeShort(columns);
+            data.writeInt(cells.length / columns);
+            data.writeInt(bricks);
+            data.write(cells);
+            data.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * defaultCells Method
+     *
+     * Builds the cells of the default tall level: bands of rows that get tougher towards the top,
+     * with gaps, rows left empty every so often and a few multi-ball bricks.
+     *
+     * @param columns The number of brick columns.
+     * @param rows The number of brick rows.
+     * @return The cell bytes, row by row.
+     */
+    public static byte[] defaultCells(int columns, int rows) {
+        byte[] cells = new byte[columns * rows];
+        for (int row = 0; row < rows; row++) {
+            int height = rows - 1 - row;
+            if (height % 40 == 39) {
+                continue;
+            }
+            for (int column = 0; column < columns; column++) {
+                boolean gap = (row * 5 + column * 3) % 11 == 0;
+                int hitPoints = 1 + Math.min(14, height / 400);
+                int type = (row * 7 + column * 3) % 53 == 0 ? BrickStore.TYPE_MULTI_BALL : BrickStore.TYPE_NORMAL;
+                cells[row * columns + column] = gap ? 0 : LevelPack.cell(type, hitPoints);
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * main Method
+     *
+     * Writes the default tall level to the file given as argument.
+     *
+     * @param args The path of the file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: TallLevel <output file>");
+            System.exit(2);
+        }
+        try (OutputStream out = new FileOutputStream(args[0])) {
+            out.write(encode(DEFAULT_COLUMNS, defaultCells(DEFAULT_COLUMNS, DEFAULT_ROWS)));
+        }
+    }
+}
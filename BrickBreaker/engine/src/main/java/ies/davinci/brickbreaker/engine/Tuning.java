@@ -0,0 +1,78 @@
+/**
+ * Tuning Class
+ *
+ * This class holds the difficulty parameters of a World: how much the ball speeds up on each
+ * paddle and brick hit, the horizontal velocities a served ball can get, and the lives at the
+ * start of the game. The game plays with DEFAULT; the batch simulator builds other tunings to
+ * compare them. Instances are immutable, so one tuning can be shared by many worlds and threads.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+import java.util.Arrays;
+
+public final class Tuning {
+
+    // The tuning of the game
+    public static final Tuning DEFAULT = new Tuning(World.PADDLE_SPEED_UP, World.BRICK_SPEED_UP,
+            new int[]{-35, -30, -25, 25, 30, 35}, World.START_LIFE);
+
+    // Speed added to the ball on each paddle and brick hit
+    private final int paddleSpeedUp, brickSpeedUp;
+
+    // Horizontal velocities of a served ball, one picked at random
+    private final int[] xVelocities;
+
+    // Lives at the start of the game
+    private final int startLife;
+
+    /**
+     * Constructor
+     *
+     * Creates a tuning.
+     *
+     * @param paddleSpeedUp The speed added to the ball on each paddle hit.
+     * @param brickSpeedUp The speed added to the ball on each brick hit.
+     * @param xVelocities The horizontal velocities of a served ball, copied.
+     * @param startLife The lives at the start of the game, at least 1.
+     */
+    public Tuning(int paddleSpeedUp, int brickSpeedUp, int[] xVelocities, int startLife) {
+        if (xVelocities.length == 0 || startLife < 1) {
+            throw new IllegalArgumentException("Bad tuning " + Arrays.toString(xVelocities) + ", " + startLife + " lives");
+        }
+        this.paddleSpeedUp = paddleSpeedUp;
+        this.brickSpeedUp = brickSpeedUp;
+        this.xVelocities = xVelocities.clone();
+        this.startLife = startLife;
+    }
+
+    public int getPaddleSpeedUp() {
+        return paddleSpeedUp;
+    }
+
+    public int getBrickSpeedUp() {
+        return brickSpeedUp;
+    }
+
+    public int getStartLife() {
+        return startLife;
+    }
+
+    public int xVelocityCount() {
+        return xVelocities.length;
+    }
+
+    public int xVelocity(int i) {
+        return xVelocities[i];
+    }
+
+    @Override
+    public String toString() {
+        return "paddle+" + paddleSpeedUp + " brick+" + brickSpeedUp
+                + " x" + Arrays.toString(xVelocities) + " lives " + startLife;
+    }
+}
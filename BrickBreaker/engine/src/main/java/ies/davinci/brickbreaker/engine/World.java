@@ -0,0 +1,834 @@
+/**
+ * World Class
+ *
+ * This class holds the simulation of the Brick Breaker game: the balls, the paddle, the bricks,
+ * the points and the health. It does not depend on Android, so it can be stepped and measured on
+ * a plain JVM. Each call to step() advances the world by one tick and reports what happened as
+ * GameEvents flags, which the caller turns into sounds and screen changes.
+ *
+ * Positions and sizes are in world units, and velocities in world units per tick. The app makes
+ * the playing field WIDTH_UNITS wide whatever the screen, and runs the ticks at a fixed rate of
+ * simulated time, so the game plays the same on every device. The balls and the paddle keep their
+ * position before the last step, so the app can draw them between two ticks.
+ *
+ * A tall level is played through a ChunkStreamer, a few rows at a time: the bricks of the world
+ * are only the rows of the view, at the top of the screen, starting at the bottom of the level.
+ * When the bottom rows of the view are cleared and the balls are below the bricks, the view
+ * scrolls up the level by those rows, and its bricks are rebuilt from the streamed rows after
+ * their hits left are written back. Collisions and drawing only ever see the view, so a step
+ * costs the same whatever the size of the level.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+import java.util.Random;
+
+public class World {
+
+    // Width of the playing field of the app, and size of its ball and paddle, in world units
+    public static final int WIDTH_UNITS = 1080;
+    public static final int BALL_SIZE_UNITS = 66;
+    public static final int PADDLE_WIDTH_UNITS = 210, PADDLE_HEIGHT_UNITS = 105;
+
+    // Brick layout of the level
+    public static final int BRICK_COLUMNS = 8;
+    public static final int BRICK_ROWS = 3;
+
+    // Points given for each broken brick
+    public static final int BRICK_POINTS = 10;
+
+    // Lives at the start of the game, with the default tuning
+    public static final int START_LIFE = 3;
+
+    // Balls put in play when a multi-ball brick breaks
+    public static final int MULTI_BALL_SPAWN = 2;
+
+    // Speed added to the ball on each paddle and brick hit, with the default tuning
+    public static final int PADDLE_SPEED_UP = 2;
+    public static final int BRICK_SPEED_UP = 1;
+
+    // Contacts resolved per step, and time tolerance for contacts happening together
+    private static final int MAX_CONTACTS = 8;
+    private static final float CONTACT_EPSILON = 1e-4f;
+
+    // Time returned when the ball hits nothing during the step
+    private static final float NO_CONTACT = Float.POSITIVE_INFINITY;
+
+    // Size of the playing field
+    private final int width, height;
+
+    // Balls in play and their size
+    private final BallPool balls = new BallPool();
+    private final int ballWidth, ballHeight;
+
+    // Position and velocity of the ball being stepped, copied from and back to the pool
+    private float ballX, ballY;
+    private int velocityX, velocityY;
+
+    // Paddle position and size, and its position before the last step and at the end of it
+    private float paddleX;
+    private float previousPaddleX, steppedPaddleX;
+    private final float paddleY;
+    private final int paddleWidth, paddleHeight;
+
+    // Bricks of the level, the grid index over them and the buffer for grid queries
+    private final BrickStore bricks = new BrickStore(BRICK_COLUMNS * BRICK_ROWS);
+    private int brokenBricks = 0;
+    private BrickGrid brickGrid;
+    private int[] candidates;
+
+    // Tall level streamed around the view, or null, the level row at the top of the view, and
+    // whether the view may have to scroll on the next step
+    private ChunkStreamer streamer;
+    private int viewRow = 0;
+    private boolean scrollPending = false;
+
+    // Bricks broken during the last step, for renderers that cache the brick field
+    private int[] brokenThisStep;
+    private int brokenThisStepCount;
+
+    // Contacts found for the current part of the step
+    private final SweptAabb sweep = new SweptAabb();
+    private float[] candidateTimes;
+    private int[] candidateAxes;
+    private int candidateCount;
+    private float wallTimeX, wallTimeY, paddleTime;
+    private int paddleAxis;
+
+    // Points and health
+    private int points = 0, life;
+    private boolean gameOver = false;
+
+    // Difficulty parameters
+    private final Tuning tuning;
+
+    private final Random random;
+
+    /**
+     * Constructor
+     *
+     * Initializes the world for a playing field of the given size, places the ball and the
+     * paddle and creates the bricks of the default level.
+     *
+     * @param width The width of the playing field.
+     * @param height The height of the playing field.
+     * @param ballWidth The width of the ball.
+     * @param ballHeight The height of the ball.
+     * @param paddleWidth The width of the paddle.
+     * @param paddleHeight The height of the paddle.
+     * @param random The random generator used to place the ball.
+     */
+    public World(int width, int height, int ballWidth, int ballHeight,
+                 int paddleWidth, int paddleHeight, Random random) {
+        this(width, height, ballWidth, ballHeight, paddleWidth, paddleHeight,
+                BRICK_COLUMNS, BRICK_ROWS, Tuning.DEFAULT, random);
+    }
+
+    /**
+     * Constructor
+     *
+     * Initializes the world like the default constructor, with the given difficulty parameters,
+     * used by the batch simulator to compare tunings.
+     *
+     * @param width The width of the playing field.
+     * @param height The height of the playing field.
+     * @param ballWidth The width of the ball.
+     * @param ballHeight The height of the ball.
+     * @param paddleWidth The width of the paddle.
+     * @param paddleHeight The height of the paddle.
+     * @param tuning The difficulty parameters.
+     * @param random The random generator used to place the ball.
+     */
+    public World(int width, int height, int ballWidth, int ballHeight,
+                 int paddleWidth, int paddleHeight, Tuning tuning, Random random) {
+        this(width, height, ballWidth, ballHeight, paddleWidth, paddleHeight,
+                BRICK_COLUMNS, BRICK_ROWS, tuning, random);
+    }
+
+    /**
+     * Constructor
+     *
+     * Initializes the world with a full grid of the given number of brick columns and rows,
+     * used by the tests and the benchmarks to build large levels.
+     *
+     * @param width The width of the playing field.
+     * @param height The height of the playing field.
+     * @param ballWidth The width of the ball.
+     * @param ballHeight The height of the ball.
+     * @param paddleWidth The width of the paddle.
+     * @param paddleHeight The height of the paddle.
+     * @param brickColumns The number of brick columns.
+     * @param brickRows The number of brick rows.
+     * @param random The random generator used to place the ball.
+     */
+    public World(int width, int height, int ballWidth, int ballHeight,
+                 int paddleWidth, int paddleHeight, int brickColumns, int brickRows, Random random) {
+        this(width, height, ballWidth, ballHeight, paddleWidth, paddleHeight,
+                brickColumns, brickRows, Tuning.DEFAULT, random);
+    }
+
+    /**
+     * Constructor
+     *
+     * Initializes the world with a full grid of the given number of brick columns and rows and
+     * the given difficulty parameters.
+     *
+     * @param width The width of the playing field.
+     * @param height The height of the playing field.
+     * @param ballWidth The width of the ball.
+     * @param ballHeight The height of the ball.
+     * @param paddleWidth The width of the paddle.
+     * @param paddleHeight The height of the paddle.
+     * @param brickColumns The number of brick columns.
+     * @param brickRows The number of brick rows.
+     * @param tuning The difficulty parameters.
+     * @param random The random generator used to place the ball.
+     */
+    public World(int width, int height, int ballWidth, int ballHeight, int paddleWidth, int paddleHeight,
+                 int brickColumns, int brickRows, Tuning tuning, Random random) {
+        this.width = width;
+        this.height = height;
+        this.ballWidth = ballWidth;
+        this.ballHeight = ballHeight;
+        this.paddleWidth = paddleWidth;
+        this.paddleHeight = paddleHeight;
+        this.tuning = tuning;
+        this.random = random;
+        life = tuning.getStartLife();
+
+        // Ball and Paddle Positions.
+        balls.spawn(random.nextInt(width - 50), (float) height / 3, 25, 30);
+        paddleX = ((float) width / 2) - ((float) paddleWidth / 2);
+        previousPaddleX = steppedPaddleX = paddleX;
+        paddleY = (float) (height * 4) / 5;
+
+        createBricks(brickColumns, brickRows);
+    }
+
+    /**
+     * createBricks Method
+     *
+     * Creates a full grid of bricks with specified dimensions and indexes them in the brick grid.
+     *
+     * @param columns The number of brick columns.
+     * @param rows The number of brick rows.
+     */
+    private void createBricks(int columns, int rows) {
+        prepareBricks(columns, rows);
+        float brickWidth = brickGrid.getCellWidth(), brickHeight = brickGrid.getCellHeight();
+
+        for (int i = 0; i < columns; i++) {
+            for (int j = 0; j < rows; j++) {
+                int index = bricks.add(j, i, brickWidth, brickHeight, BrickStore.TYPE_NORMAL, 1);
+                brickGrid.put(j, i, index);
+            }
+        }
+    }
+
+    /**
+     * prepareBricks Method
+     *
+     * Empties the bricks and lays out the brick grid for a level. Bricks are a sixteenth of the
+     * screen high, or less if needed to keep them in the top quarter. The grid and the collision
+     * buffers are reused when they are large enough.
+     *
+     * @param columns The number of brick columns.
+     * @param rows The number of brick rows.
+     */
+    private void prepareBricks(int columns, int rows) {
+        int brickWidth = width / columns;
+        int brickHeight = Math.min(height / 16, height / 4 / rows);
+        bricks.clear();
+        brokenBricks = 0;
+        if (brickGrid == null) {
+            brickGrid = new BrickGrid(columns, rows, brickWidth, brickHeight);
+        } else {
+            brickGrid.reset(columns, rows, brickWidth, brickHeight);
+        }
+        reserveBuffers(brickGrid.capacity());
+    }
+
+    private void reserveBuffers(int cellCount) {
+        if (candidates == null || candidates.length < cellCount) {
+            candidates = new int[cellCount];
+            candidateTimes = new float[cellCount];
+            candidateAxes = new int[cellCount];
+            brokenThisStep = new int[cellCount];
+        }
+    }
+
+    /**
+     * reserveBricks Method
+     *
+     * Sizes the bricks, the grid and the collision buffers for levels of up to the given number
+     * of cells, so loading the levels of a pack during the game does not allocate.
+     *
+     * @param cellCount The number of cells of the largest level.
+     */
+    public void reserveBricks(int cellCount) {
+        bricks.reserve(cellCount);
+        brickGrid.reserve(cellCount);
+        reserveBuffers(cellCount);
+    }
+
+    /**
+     * loadLevel Method
+     *
+     * Replaces the bricks with a level of a level pack and serves the ball again. Points and
+     * health are kept, so this is also how the game moves on to the next level.
+     *
+     * @param pack The level pack.
+     * @param level The index of the level in the pack.
+     */
+    public void loadLevel(LevelPack pack, int level) {
+        streamer = null;
+        prepareBricks(pack.columns(level), pack.rows(level));
+        pack.decode(level, bricks, brickGrid);
+        resetBall();
+        gameOver = life == 0;
+    }
+
+    /**
+     * loadTallLevel Method
+     *
+     * Replaces the bricks with the view at the bottom of a tall level and serves the ball again.
+     * Points and health are kept.
+     *
+     * @param levelStreamer The streamer of the tall level, used by this world from now on.
+     */
+    public void loadTallLevel(ChunkStreamer levelStreamer) {
+        streamer = levelStreamer;
+        viewRow = Math.max(0, streamer.getLevel().rows() - streamer.getViewRows());
+        brokenBricks = 0;
+        loadView();
+        scrollPending = true;
+        resetBall();
+        gameOver = life == 0;
+    }
+
+    /**
+     * loadView Method
+     *
+     * Rebuilds the bricks from the streamed rows of the view, keeping the bricks broken so far.
+     */
+    private void loadView() {
+        TallLevel level = streamer.getLevel();
+        int broken = brokenBricks;
+        prepareBricks(level.columns(), streamer.getViewRows());
+        brokenBricks = broken;
+        streamer.setView(viewRow);
+        float brickWidth = brickGrid.getCellWidth(), brickHeight = brickGrid.getCellHeight();
+
+        int rows = Math.min(brickGrid.getRows(), level.rows() - viewRow);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < level.columns(); column++) {
+                int value = streamer.cell(viewRow + row, column);
+                if (value != 0) {
+                    int index = bricks.add(row, column, brickWidth, brickHeight, value >> 4, Math.max(1, value & 0x0F));
+                    brickGrid.put(row, column, index);
+                }
+            }
+        }
+    }
+
+    /**
+     * saveView Method
+     *
+     * Writes the hits left of the bricks of the view back to the streamed rows.
+     */
+    private void saveView() {
+        for (int i = 0; i < bricks.size(); i++) {
+            int value = bricks.isAlive(i) ? LevelPack.cell(bricks.type(i), bricks.hitPoints(i)) : 0;
+            streamer.setCell(viewRow + bricks.row(i), bricks.column(i), value);
+        }
+    }
+
+    /**
+     * scrollField Method
+     *
+     * Scrolls the view up the tall level by its empty bottom rows, if the balls are below the
+     * bricks, so no brick is moved onto a ball.
+     *
+     * @return True if the view scrolled.
+     */
+    private boolean scrollField() {
+        float fieldBottom = brickGrid.getRows() * brickGrid.getCellHeight();
+        for (int i = 0; i < balls.count(); i++) {
+            if (balls.y(i) < fieldBottom) {
+                return false;
+            }
+        }
+        int emptyRows = 0;
+        for (int row = brickGrid.getRows() - 1; row >= 0 && isRowEmpty(row); row--) {
+            emptyRows++;
+        }
+        int shift = Math.min(emptyRows, viewRow);
+        if (shift == 0) {
+            return false;
+        }
+        saveView();
+        viewRow -= shift;
+        loadView();
+        return true;
+    }
+
+    private boolean isRowEmpty(int row) {
+        for (int column = 0; column < brickGrid.getColumns(); column++) {
+            if (brickGrid.get(row, column) != BrickGrid.EMPTY) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * step Method
+     *
+     * Advances the world by one tick: moves the ball, resolves the collisions with the walls,
+     * the paddle and the bricks, and updates points and health.
+     *
+     * Collisions are continuous: the ball moves to the earliest contact of the step, bounces, and
+     * keeps moving for the rest of the step, up to MAX_CONTACTS times. A fast ball therefore
+     * cannot pass through a brick or the paddle, and bricks hit at the same time flip the ball
+     * only once instead of cancelling each other's bounce.
+     *
+     * On a tall level, the view first scrolls if bricks broke since it last could not, and the
+     * level is only cleared once the view has reached its top.
+     *
+     * @return The GameEvents flags of everything that happened during the step.
+     */
+    public int step() {
+        brokenThisStepCount = 0;
+        balls.savePositions();
+        previousPaddleX = steppedPaddleX;
+        steppedPaddleX = paddleX;
+        if (gameOver) {
+            return GameEvents.NONE;
+        }
+        int events = GameEvents.NONE;
+
+        // Scroll the view of a tall level before the balls move, so the bricks broken during
+        // this step are the bricks of the new view.
+        if (streamer != null && scrollPending) {
+            if (scrollField()) {
+                events |= GameEvents.FIELD_SCROLLED;
+            } else if (!isRowEmpty(brickGrid.getRows() - 1) || viewRow == 0) {
+                scrollPending = false;
+            }
+        }
+
+        // Step every ball through the same collision path. Balls are visited from the last one,
+        // so removing a ball or spawning new ones does not disturb the loop.
+        for (int i = balls.count() - 1; i >= 0; i--) {
+            ballX = balls.x(i);
+            ballY = balls.y(i);
+            velocityX = balls.velocityX(i);
+            velocityY = balls.velocityY(i);
+
+            events |= stepBall();
+
+            // Remove the ball if it goes below the paddle.
+            if (ballY > paddleY + paddleHeight) {
+                balls.remove(i);
+            } else {
+                balls.setPosition(i, ballX, ballY);
+                balls.setVelocity(i, velocityX, velocityY);
+            }
+        }
+
+        // Serve a new ball and reduce life when the last ball is lost.
+        if (balls.count() == 0) {
+            resetBall();
+            life--;
+            events |= GameEvents.LIFE_LOST;
+
+            // Game over condition.
+            if (life == 0) {
+                gameOver = true;
+                events |= GameEvents.GAME_OVER;
+            }
+        }
+
+        if (brokenThisStepCount > 0) {
+            scrollPending = true;
+        }
+        if (bricks.aliveCount() == 0 && (streamer == null || viewRow == 0)) {
+            gameOver = true;
+            events |= GameEvents.LEVEL_CLEARED;
+        }
+        return events;
+    }
+
+    /**
+     * stepBall Method
+     *
+     * Moves the current ball from contact to contact until the step is over.
+     *
+     * @return The GameEvents flags of the contacts.
+     */
+    private int stepBall() {
+        int events = GameEvents.NONE;
+
+        // A paddle moved onto the ball lifts it out on top. Otherwise a ball pinned between the
+        // paddle and a wall bounces between them on every contact, speeding up each time.
+        if (ballX < paddleX + paddleWidth && ballX + ballWidth > paddleX
+                && ballY < paddleY + paddleHeight && ballY + ballHeight > paddleY) {
+            ballY = paddleY - ballHeight;
+            velocityY = -Math.abs(velocityY);
+        }
+
+        float remaining = 1f;
+        for (int contact = 0; contact < MAX_CONTACTS && remaining > 0f; contact++) {
+            float dx = velocityX * remaining;
+            float dy = velocityY * remaining;
+            float time = findContacts(dx, dy);
+            if (time > 1f) {
+                ballX += dx;
+                ballY += dy;
+                break;
+            }
+            ballX += dx * time;
+            ballY += dy * time;
+            events |= resolveContacts(time);
+            remaining *= 1f - time;
+        }
+        return events;
+    }
+
+    /**
+     * findContacts Method
+     *
+     * Computes the time of impact of the ball, moving by (dx, dy), with the walls, the paddle and
+     * the bricks in the cells it sweeps. The times are kept for resolveContacts().
+     *
+     * @param dx The horizontal movement of the ball for the rest of the step.
+     * @param dy The vertical movement of the ball for the rest of the step.
+     * @return The earliest time of impact, or NO_CONTACT if the ball hits nothing.
+     */
+    private float findContacts(float dx, float dy) {
+        float earliest = NO_CONTACT;
+
+        // Screen boundaries.
+        wallTimeX = NO_CONTACT;
+        if (dx < 0 && ballX + dx < 0) {
+            wallTimeX = Math.max(0f, ballX / -dx);
+        } else if (dx > 0 && ballX + dx > width - ballWidth) {
+            wallTimeX = Math.max(0f, (width - ballWidth - ballX) / dx);
+        }
+        wallTimeY = NO_CONTACT;
+        if (dy < 0 && ballY + dy < 0) {
+            wallTimeY = Math.max(0f, ballY / -dy);
+        }
+        earliest = Math.min(earliest, Math.min(wallTimeX, wallTimeY));
+
+        // Paddle.
+        paddleTime = NO_CONTACT;
+        if (sweep.test(ballX, ballY, ballWidth, ballHeight, dx, dy,
+                paddleX, paddleY, paddleX + paddleWidth, paddleY + paddleHeight)) {
+            paddleTime = sweep.time;
+            paddleAxis = sweep.axis;
+            earliest = Math.min(earliest, paddleTime);
+        }
+
+        // Bricks in the cells swept by the ball.
+        candidateCount = brickGrid.query(Math.min(ballX, ballX + dx), Math.min(ballY, ballY + dy),
+                Math.max(ballX, ballX + dx) + ballWidth, Math.max(ballY, ballY + dy) + ballHeight,
+                candidates);
+        for (int c = 0; c < candidateCount; c++) {
+            int i = candidates[c];
+            if (sweep.test(ballX, ballY, ballWidth, ballHeight, dx, dy,
+                    bricks.left(i), bricks.top(i), bricks.right(i), bricks.bottom(i))) {
+                candidateTimes[c] = sweep.time;
+                candidateAxes[c] = sweep.axis;
+                earliest = Math.min(earliest, sweep.time);
+            } else {
+                candidateTimes[c] = NO_CONTACT;
+            }
+        }
+        return earliest;
+    }
+
+    /**
+     * resolveContacts Method
+     *
+     * Applies every contact found by findContacts() at the given time: breaks the bricks, bounces
+     * the ball once per axis and increases its speed for each paddle and brick hit.
+     *
+     * @param time The time of the earliest contact.
+     * @return The GameEvents flags of the contacts.
+     */
+    private int resolveContacts(float time) {
+        int events = GameEvents.NONE;
+        boolean flipX = false, flipY = false;
+        int speedUpX = 0, speedUpY = 0;
+
+        // Screen boundaries.
+        if (wallTimeX <= time + CONTACT_EPSILON) {
+            flipX = true;
+        }
+        if (wallTimeY <= time + CONTACT_EPSILON) {
+            flipY = true;
+        }
+
+        // Ball and Paddle Collisions.
+        if (paddleTime <= time + CONTACT_EPSILON) {
+            if (paddleAxis == SweptAabb.AXIS_Y) {
+                flipY = true;
+            } else {
+                flipX = true;
+            }
+            // Increase Difficulty.
+            speedUpX += tuning.getPaddleSpeedUp();
+            speedUpY += tuning.getPaddleSpeedUp();
+            events |= GameEvents.PADDLE_HIT;
+        }
+
+        // Ball and Brick Collisions.
+        for (int c = 0; c < candidateCount; c++) {
+            if (candidateTimes[c] > time + CONTACT_EPSILON) {
+                continue;
+            }
+            int i = candidates[c];
+            // Increase Velocity.
+            if (candidateAxes[c] == SweptAabb.AXIS_Y) {
+                flipY = true;
+                speedUpY += tuning.getBrickSpeedUp();
+            } else {
+                flipX = true;
+                speedUpX += tuning.getBrickSpeedUp();
+            }
+
+            // "Break Brick"
+            if (bricks.hit(i)) {
+                brickGrid.remove(bricks.row(i), bricks.column(i));
+                brokenThisStep[brokenThisStepCount++] = i;
+
+                // Sum Points and Broken Bricks.
+                points += BRICK_POINTS;
+                brokenBricks++;
+                events |= GameEvents.BRICK_BROKEN;
+
+                // Power-up.
+                if (bricks.type(i) == BrickStore.TYPE_MULTI_BALL) {
+                    spawnMultiBall();
+                    events |= GameEvents.MULTI_BALL;
+                }
+            }
+        }
+
+        velocityX = bounce(velocityX, speedUpX, flipX);
+        velocityY = bounce(velocityY, speedUpY, flipY);
+        return events;
+    }
+
+    /**
+     * bounce Method
+     *
+     * Increases the magnitude of a velocity component and optionally reverses it.
+     *
+     * @param v The velocity component.
+     * @param speedUp The amount added to the magnitude of the component.
+     * @param flip True to reverse the component.
+     * @return The new velocity component.
+     */
+    private static int bounce(int v, int speedUp, boolean flip) {
+        v += Integer.signum(v) * speedUp;
+        return flip ? -v : v;
+    }
+
+    /**
+     * movePaddle Method
+     *
+     * Moves the paddle to the given position, keeping it within the playing field.
+     *
+     * @param newPaddleX The requested x position of the paddle.
+     */
+    public void movePaddle(float newPaddleX) {
+        if (newPaddleX <= 0) {
+            paddleX = 0;
+        } else if (newPaddleX >= width - paddleWidth) {
+            paddleX = width - paddleWidth;
+        } else {
+            paddleX = newPaddleX;
+        }
+    }
+
+    /**
+     * restore Method
+     *
+     * Sets the state that WorldSnapshot does not restore through the bricks and the balls.
+     *
+     * @param newPoints The points.
+     * @param newLife The lives left.
+     * @param newBrokenBricks The bricks broken on the current level.
+     * @param newPaddleX The x position of the paddle.
+     */
+    void restore(int newPoints, int newLife, int newBrokenBricks, float newPaddleX) {
+        points = newPoints;
+        life = newLife;
+        brokenBricks = newBrokenBricks;
+        movePaddle(newPaddleX);
+        previousPaddleX = steppedPaddleX = paddleX;
+        gameOver = life == 0 || bricks.aliveCount() == 0;
+    }
+
+    /**
+     * restoreBrick Method
+     *
+     * Sets the hits left of a brick of the loaded level, breaking it if none are left.
+     *
+     * @param i The index of the brick.
+     * @param hitPoints The hits left, 0 for a broken brick.
+     */
+    void restoreBrick(int i, int hitPoints) {
+        if (hitPoints > 0) {
+            bricks.setHitPoints(i, hitPoints);
+        } else if (bricks.isAlive(i)) {
+            bricks.kill(i);
+            brickGrid.remove(bricks.row(i), bricks.column(i));
+        }
+    }
+
+    /**
+     * resetBall Method
+     *
+     * Takes every ball out of play and serves a single ball from a random position, a third of
+     * the way down the screen.
+     */
+    private void resetBall() {
+        balls.clear();
+        balls.spawn(1 + random.nextInt(width - ballWidth - 1), (float) height / 3, xVelocity(), 32);
+    }
+
+    /**
+     * spawnMultiBall Method
+     *
+     * Puts extra balls in play from the position of the current ball, moving up with random
+     * horizontal velocities. Balls that do not fit in the pool are not spawned.
+     */
+    private void spawnMultiBall() {
+        for (int n = 0; n < MULTI_BALL_SPAWN; n++) {
+            balls.spawn(ballX, ballY, xVelocity(), -Math.abs(velocityY));
+        }
+    }
+
+    /**
+     * spawnBall Method
+     *
+     * Puts an extra ball in play, for tests and benchmarks.
+     *
+     * @param x The x position of the ball.
+     * @param y The y position of the ball.
+     * @param vx The x velocity of the ball.
+     * @param vy The y velocity of the ball.
+     * @return The index of the ball, or -1 if the pool is full.
+     */
+    public int spawnBall(float x, float y, int vx, int vy) {
+        return balls.spawn(x, y, vx, vy);
+    }
+
+    /**
+     * xVelocity Method
+     *
+     * Generates a random x velocity for the ball.
+     *
+     * @return The randomly generated x velocity.
+     */
+    private int xVelocity() {
+        return tuning.xVelocity(random.nextInt(tuning.xVelocityCount()));
+    }
+
+    // Getters used by the renderer, the input handling and the tests.
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public BallPool getBalls() {
+        return balls;
+    }
+
+    public int getBallWidth() {
+        return ballWidth;
+    }
+
+    // Position of the first ball, the one served after a life is lost
+    public float getBallX() {
+        return balls.x(0);
+    }
+
+    public float getBallY() {
+        return balls.y(0);
+    }
+
+    public float getPaddleX() {
+        return paddleX;
+    }
+
+    // Paddle position between the last two steps, alpha going from 0 for the previous one to 1
+    public float getInterpolatedPaddleX(float alpha) {
+        return previousPaddleX + (steppedPaddleX - previousPaddleX) * alpha;
+    }
+
+    public float getPaddleY() {
+        return paddleY;
+    }
+
+    public int getPaddleWidth() {
+        return paddleWidth;
+    }
+
+    public BrickGrid getBrickGrid() {
+        return brickGrid;
+    }
+
+    public BrickStore getBricks() {
+        return bricks;
+    }
+
+    // Streamer of the tall level being played, or null
+    public ChunkStreamer getStreamer() {
+        return streamer;
+    }
+
+    // Level row at the top of the view of a tall level
+    public int getViewRow() {
+        return viewRow;
+    }
+
+    public int getBrokenThisStepCount() {
+        return brokenThisStepCount;
+    }
+
+    public int getBrokenThisStep(int k) {
+        return brokenThisStep[k];
+    }
+
+    public int getNumBricks() {
+        return bricks.size();
+    }
+
+    public int getBrokenBricks() {
+        return brokenBricks;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public int getLife() {
+        return life;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+}
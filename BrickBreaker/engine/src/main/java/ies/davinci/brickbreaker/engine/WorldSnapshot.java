@@ -0,0 +1,157 @@
+/**
+ * WorldSnapshot Class
+ *
+ * This class saves the state of a game into a small byte array and restores it, so the app can
+ * keep a game in its saved instance state across process death. The snapshot holds the level,
+ * the points, the lives, the paddle, every ball and the hits left of every brick, packed in
+ * four bits per brick with 0 for a broken brick. The layout of the level comes from the level
+ * pack, so a snapshot of a 24 brick level takes under 60 bytes.
+ *
+ * Format, big-endian:
+ *   int magic 'BBSS', byte version, int width, int height,
+ *   short level, int points, byte life, int brokenBricks, float paddleX,
+ *   byte ballCount, ballCount * (float x, float y, int velocityX, int velocityY),
+ *   short brickCount, (brickCount + 1) / 2 bytes of hit points, two bricks per byte.
+ *
+ * The random generator of the world is not saved, so a restored game continues with new random
+ * serves.
+ *
+ * @author [Fco. Javier]
+ * @version 1.0
+ * @since [10-18-2026]
+ */
+
+package ies.davinci.brickbreaker.engine;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+public final class WorldSnapshot {
+
+    // Snapshot header
+    public static final int MAGIC = 0x42425353;
+    public static final int VERSION = 1;
+
+    // Largest hit points of a brick, as stored in a level pack cell
+    private static final int MAX_HIT_POINTS = 15;
+
+    // Bytes before the balls, of each ball and before the bricks
+    private static final int HEADER_BYTES = 4 + 1 + 4 + 4 + 2 + 4 + 1 + 4 + 4 + 1;
+    private static final int BALL_BYTES = 16;
+    private static final int BRICKS_HEADER_BYTES = 2;
+
+    private WorldSnapshot() {
+    }
+
+    /**
+     * save Method
+     *
+     * Saves the state of a game.
+     *
+     * @param session The game.
+     * @return The snapshot.
+     */
+    public static byte[] save(GameSession session) {
+        World world = session.getWorld();
+        BallPool balls = world.getBalls();
+        BrickStore bricks = world.getBricks();
+        int brickCount = bricks.size();
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + balls.count() * BALL_BYTES
+                + BRICKS_HEADER_BYTES + (brickCount + 1) / 2);
+
+        out.putInt(MAGIC);
+        out.put((byte) VERSION);
+        out.putInt(world.getWidth());
+        out.putInt(world.getHeight());
+        out.putShort((short) session.getLevel());
+        out.putInt(world.getPoints());
+        out.put((byte) world.getLife());
+        out.putInt(world.getBrokenBricks());
+        out.putFloat(world.getPaddleX());
+
+        out.put((byte) balls.count());
+        for (int i = 0; i < balls.count(); i++) {
+            out.putFloat(balls.x(i));
+            out.putFloat(balls.y(i));
+            out.putInt(balls.velocityX(i));
+            out.putInt(balls.velocityY(i));
+        }
+
+        out.putShort((short) brickCount);
+        for (int i = 0; i < brickCount; i += 2) {
+            int high = hitPointsOf(bricks, i);
+            int low = i + 1 < brickCount ? hitPointsOf(bricks, i + 1) : 0;
+            out.put((byte) (high << 4 | low));
+        }
+        return out.array();
+    }
+
+    private static int hitPointsOf(BrickStore bricks, int i) {
+        return bricks.isAlive(i) ? Math.min(MAX_HIT_POINTS, bricks.hitPoints(i)) : 0;
+    }
+
+    /**
+     * restore Method
+     *
+     * Restores a saved state into a game created with the same level pack. The whole snapshot is
+     * checked first, then the level is loaded again and the saved state is applied to it.
+     *
+     * @param session The game to restore into.
+     * @param snapshot The snapshot made by save().
+     * @return False if the snapshot was taken on a playing field of another size, in which case
+     *         the game is left untouched.
+     * @throws IllegalArgumentException If the snapshot is corrupt or does not match the level, in
+     *         which case the game is left untouched too.
+     */
+    public static boolean restore(GameSession session, byte[] snapshot) {
+        World world = session.getWorld();
+        ByteBuffer in = ByteBuffer.wrap(snapshot);
+        try {
+            if (in.getInt() != MAGIC || in.get() != VERSION) {
+                throw new IllegalArgumentException("Not a world snapshot");
+            }
+            if (in.getInt() != world.getWidth() || in.getInt() != world.getHeight()) {
+                return false;
+            }
+            int level = in.getShort();
+            int points = in.getInt();
+            int life = in.get();
+            int brokenBricks = in.getInt();
+            float paddleX = in.getFloat();
+
+            // Everything is checked before the level is loaded, so a bad snapshot leaves the game
+            // untouched.
+            int ballCount = in.get() & 0xFF;
+            BallPool balls = world.getBalls();
+            if (ballCount < 1 || ballCount > balls.capacity() || in.remaining() < ballCount * BALL_BYTES) {
+                throw new IllegalArgumentException("Bad ball count " + ballCount);
+            }
+            int ballsStart = in.position();
+            in.position(ballsStart + ballCount * BALL_BYTES);
+            int brickCount = in.getShort() & 0xFFFF;
+            if (in.remaining() != (brickCount + 1) / 2) {
+                throw new IllegalArgumentException("Bad brick count " + brickCount);
+            }
+            int levelBricks = session.levelBrickCount(level);
+            if (levelBricks != brickCount) {
+                throw new IllegalArgumentException("Snapshot has " + brickCount + " bricks, level has " + levelBricks);
+            }
+
+            session.restoreLevel(level);
+            for (int i = 0; i < brickCount; i++) {
+                int packed = in.get(in.position() + i / 2);
+                world.restoreBrick(i, (i % 2 == 0 ? packed >> 4 : packed) & 0xF);
+            }
+
+            in.position(ballsStart);
+            balls.clear();
+            for (int i = 0; i < ballCount; i++) {
+                balls.spawn(in.getFloat(), in.getFloat(), in.getInt(), in.getInt());
+            }
+            world.restore(points, life, brokenBricks, paddleX);
+            return true;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated world snapshot", e);
+        }
+    }
+}
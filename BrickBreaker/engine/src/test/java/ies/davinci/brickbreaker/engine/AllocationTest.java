@@ -0,0 +1,128 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Regression gate for the frame path: a simulated frame must not allocate. Uses the per-thread
+ * allocation counter of the HotSpot JVM, so the test is skipped on JVMs without it.
+ */
+public class AllocationTest {
+
+    private static final int FRAMES = 20_000;
+
+    // Rounds played to warm up, and rounds measured, each of which must not allocate
+    private static final int WARM_UP_ROUNDS = 5, ROUNDS = 3;
+
+    // Seed of the games of every round
+    private static final int SEED = 0;
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(sunBean.isThreadAllocatedMemorySupported());
+        sunBean.setThreadAllocatedMemoryEnabled(true);
+        return sunBean;
+    }
+
+    /**
+     * Plays frames with an autopilot paddle, moving on to the next game when one finishes: records
+     * the paddle into the log of the game, ticks its session, bursts the broken bricks into
+     * particles, passes the events through a ring and builds and sorts the draw list like the
+     * renderer does.
+     */
+    private static int playFrames(GameSession[] sessions, InputLog[] logs, SceneBuilder scene, DrawList list,
+                                  ParticleSystem particles, EventRing ring, int frames) {
+        int events = 0;
+        int w = 0;
+        for (int frame = 0; frame < frames; frame++) {
+            GameSession session = sessions[w];
+            if (session.isFinished()) {
+                w = (w + 1) % sessions.length;
+                continue;
+            }
+            World world = session.getWorld();
+            int paddleX = Math.round(world.getBallX() - world.getPaddleWidth() / 2f);
+            logs[w].record(paddleX);
+            int stepEvents = session.tick(paddleX);
+            for (int flag = GameEvents.PADDLE_HIT; flag <= GameEvents.SESSION_FINISHED; flag <<= 1) {
+                if (GameEvents.has(stepEvents, flag)) {
+                    ring.offer(EventRing.encode(flag, frame, world.getPoints()));
+                }
+            }
+            long event;
+            while ((event = ring.poll()) != EventRing.EMPTY) {
+                events |= EventRing.flag(event);
+            }
+            BrickStore bricks = world.getBricks();
+            for (int k = 0; k < world.getBrokenThisStepCount(); k++) {
+                int i = world.getBrokenThisStep(k);
+                particles.emitBurst(bricks.left(i), bricks.top(i), 16, 12);
+            }
+            particles.update();
+            scene.build(world, particles, 0.5f, list);
+            list.sort();
+        }
+        return events;
+    }
+
+    private static LevelPack defaultPack() {
+        LevelPackWriter writer = new LevelPackWriter();
+        writer.addDefaultLevels();
+        return new LevelPack(ByteBuffer.wrap(writer.toByteArray()));
+    }
+
+    /**
+     * Starts games on the levels of the pack, with an empty log each.
+     */
+    private static GameSession[] newGames(LevelPack pack, int seed, InputLog[] logs) {
+        GameSession[] sessions = new GameSession[logs.length];
+        for (int i = 0; i < sessions.length; i++) {
+            logs[i] = new InputLog(seed + i, 1080, 1920, 25, 25, 80, 40);
+            sessions[i] = new GameSession(logs[i].newWorld(), pack);
+        }
+        return sessions;
+    }
+
+    @Test
+    public void simulatedFrame_doesNotAllocate() {
+        com.sun.management.ThreadMXBean bean = threadBean();
+        long threadId = Thread.currentThread().getId();
+
+        SceneBuilder scene = new SceneBuilder(1f, 1080, 1920);
+        DrawList list = new DrawList();
+        EventRing ring = new EventRing();
+        ParticleSystem particles = new ParticleSystem(new Random(0));
+        LevelPack pack = defaultPack();
+        InputLog[] logs = new InputLog[64];
+
+        // Warm up on the same games as the measured rounds, so the measured frames run code
+        // compiled for the paths they take. The test task runs with -Xbatch, so the compilations
+        // are done by the end of the warm-up rather than in the background.
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            playFrames(newGames(pack, SEED, logs), logs, scene, list, particles, ring, FRAMES);
+        }
+
+        // Cost of reading the counter itself.
+        long before = bean.getThreadAllocatedBytes(threadId);
+        long overhead = bean.getThreadAllocatedBytes(threadId) - before;
+
+        // Every round, with games created up front, must not allocate.
+        for (int round = 0; round < ROUNDS; round++) {
+            GameSession[] sessions = newGames(pack, SEED, logs);
+            before = bean.getThreadAllocatedBytes(threadId);
+            int events = playFrames(sessions, logs, scene, list, particles, ring, FRAMES);
+            long allocated = bean.getThreadAllocatedBytes(threadId) - before - overhead;
+
+            assertTrue("no frames were played", events != 0);
+            assertEquals("bytes allocated by " + FRAMES + " frames in round " + round, 0, allocated);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the BallPool preallocated ball storage.
+ */
+public class BallPoolTest {
+
+    @Test
+    public void spawn_returnsMinusOneWhenFull() {
+        BallPool pool = new BallPool(3);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, pool.spawn(i, i, 1, 1));
+        }
+        assertEquals(-1, pool.spawn(9, 9, 1, 1));
+        assertEquals(3, pool.count());
+    }
+
+    @Test
+    public void remove_movesLastBallIntoSlot() {
+        BallPool pool = new BallPool(4);
+        pool.spawn(10, 11, 1, 2);
+        pool.spawn(20, 21, 3, 4);
+        pool.spawn(30, 31, 5, 6);
+        pool.remove(0);
+        assertEquals(2, pool.count());
+        assertEquals(30, pool.x(0), 0);
+        assertEquals(31, pool.y(0), 0);
+        assertEquals(5, pool.velocityX(0));
+        assertEquals(6, pool.velocityY(0));
+        assertEquals(20, pool.x(1), 0);
+
+        // Removing the last ball only shrinks the pool.
+        pool.remove(1);
+        assertEquals(1, pool.count());
+        assertEquals(30, pool.x(0), 0);
+    }
+
+    @Test
+    public void clear_reusesSlots() {
+        BallPool pool = new BallPool(2);
+        pool.spawn(1, 1, 1, 1);
+        pool.spawn(2, 2, 2, 2);
+        pool.clear();
+        assertEquals(0, pool.count());
+        assertEquals(0, pool.spawn(5, 5, 5, 5));
+        assertEquals(5, pool.x(0), 0);
+    }
+
+    @Test
+    public void interpolated_goesFromSavedToCurrentPosition() {
+        BallPool pool = new BallPool(4);
+        pool.spawn(10, 20, 1, 1);
+        pool.spawn(50, 60, 1, 1);
+
+        // A new ball has no earlier position.
+        assertEquals(10, pool.interpolatedX(0, 0.5f), 0);
+        pool.savePositions();
+        pool.setPosition(0, 30, 40);
+        pool.setPosition(1, 70, 100);
+        assertEquals(20, pool.interpolatedX(0, 0.5f), 0.001);
+        assertEquals(30, pool.interpolatedY(0, 0.5f), 0.001);
+
+        // Removing a ball moves the previous position of the last ball too.
+        pool.remove(0);
+        assertEquals(50, pool.interpolatedX(0, 0), 0);
+        assertEquals(100, pool.interpolatedY(0, 1), 0);
+    }
+}
@@ -0,0 +1,63 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the BatchSimulator sweeps.
+ */
+public class BatchSimulatorTest {
+
+    private static BatchSimulator simulator() {
+        LevelPackWriter writer = new LevelPackWriter();
+        writer.addDefaultLevels(2);
+        return new BatchSimulator(new LevelPack(ByteBuffer.wrap(writer.toByteArray())), 5_000,
+                BatchSimulator.DEFAULT_PADDLE_SPEED);
+    }
+
+    private static List<Tuning> livesSweep() {
+        int[] xVelocities = {-35, -30, -25, 25, 30, 35};
+        return Arrays.asList(
+                new Tuning(2, 1, xVelocities, 1),
+                new Tuning(2, 1, xVelocities, 3),
+                new Tuning(2, 1, xVelocities, 5));
+    }
+
+    @Test
+    public void sweep_doesNotDependOnTheNumberOfThreads() throws InterruptedException {
+        BatchSimulator simulator = simulator();
+        List<Tuning> tunings = livesSweep();
+        ForkJoinPool single = new ForkJoinPool(1), many = new ForkJoinPool(4);
+        SimulationSummary[] a = simulator.sweep(tunings, 20, single);
+        SimulationSummary[] b = simulator.sweep(tunings, 20, many);
+        single.shutdown();
+        many.shutdown();
+        for (int t = 0; t < tunings.size(); t++) {
+            assertEquals(20, a[t].getGames());
+            assertEquals(a[t].getWins(), b[t].getWins());
+            assertEquals(a[t].getMeanTicks(), b[t].getMeanTicks(), 0);
+            assertEquals(a[t].getMaxPeakSpeed(), b[t].getMaxPeakSpeed(), 0);
+            assertEquals(a[t].getMeanPoints(), b[t].getMeanPoints(), 1e-9);
+        }
+    }
+
+    @Test
+    public void moreLives_neverShortenGames() throws InterruptedException {
+        // With the same seed, a game plays the same until the extra lives are needed.
+        ForkJoinPool pool = new ForkJoinPool(2);
+        SimulationSummary[] summaries = simulator().sweep(livesSweep(), 20, pool);
+        pool.shutdown();
+        for (int t = 1; t < summaries.length; t++) {
+            assertTrue(summaries[t].getWins() >= summaries[t - 1].getWins());
+            assertTrue(summaries[t].getMeanTicks() >= summaries[t - 1].getMeanTicks());
+            assertTrue(summaries[t].getMeanPoints() >= summaries[t - 1].getMeanPoints());
+        }
+        assertTrue(summaries[0].getMaxPeakSpeed() > 0);
+    }
+}
@@ -0,0 +1,46 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the BrickGrid spatial index.
+ */
+public class BrickGridTest {
+
+    @Test
+    public void query_returnsOnlyCoveredCells() {
+        BrickGrid grid = new BrickGrid(100, 100, 10, 10);
+        for (int row = 0; row < 100; row++) {
+            for (int column = 0; column < 100; column++) {
+                grid.put(row, column, row * 100 + column);
+            }
+        }
+        int[] out = new int[grid.capacity()];
+
+        // A small box inside one cell only returns that cell.
+        assertEquals(1, grid.query(52, 73, 57, 77, out));
+        assertEquals(7 * 100 + 5, out[0]);
+
+        // Touching a cell edge includes the neighbouring cell.
+        assertEquals(2, grid.query(52, 73, 60, 77, out));
+    }
+
+    @Test
+    public void remove_emptiesCell() {
+        BrickGrid grid = new BrickGrid(8, 3, 135, 120);
+        grid.put(1, 2, 5);
+        assertEquals(5, grid.get(1, 2));
+        grid.remove(1, 2);
+        assertEquals(BrickGrid.EMPTY, grid.get(1, 2));
+        assertEquals(0, grid.query(0, 0, 8 * 135, 3 * 120, new int[grid.capacity()]));
+    }
+
+    @Test
+    public void query_outsideGrid_returnsNothing() {
+        BrickGrid grid = new BrickGrid(8, 3, 135, 120);
+        grid.put(2, 0, 0);
+        assertEquals(0, grid.query(0, 1000, 100, 1100, new int[grid.capacity()]));
+    }
+}
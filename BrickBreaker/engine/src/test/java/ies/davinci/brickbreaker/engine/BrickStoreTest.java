@@ -0,0 +1,48 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the BrickStore entity storage.
+ */
+public class BrickStoreTest {
+
+    @Test
+    public void add_growsPastInitialCapacity() {
+        BrickStore store = new BrickStore(4);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, store.add(i / 10, i % 10, 50, 20, BrickStore.TYPE_NORMAL, 1));
+        }
+        assertEquals(1000, store.size());
+        assertEquals(1000, store.aliveCount());
+        assertEquals(9 * 50, store.left(999), 0);
+        assertEquals(99 * 20 + 20, store.bottom(999), 0);
+    }
+
+    @Test
+    public void hit_breaksAfterHitPoints() {
+        BrickStore store = new BrickStore();
+        int i = store.add(0, 0, 50, 20, BrickStore.TYPE_NORMAL, 2);
+        assertFalse(store.hit(i));
+        assertTrue(store.isAlive(i));
+        assertTrue(store.hit(i));
+        assertFalse(store.isAlive(i));
+        assertEquals(0, store.aliveCount());
+    }
+
+    @Test
+    public void nextAlive_skipsBrokenBricks() {
+        BrickStore store = new BrickStore();
+        for (int i = 0; i < 5; i++) {
+            store.add(0, i, 50, 20, BrickStore.TYPE_NORMAL, 1);
+        }
+        store.kill(1);
+        store.kill(2);
+        assertEquals(0, store.nextAlive(0));
+        assertEquals(3, store.nextAlive(1));
+        store.kill(4);
+        assertEquals(-1, store.nextAlive(4));
+    }
+}
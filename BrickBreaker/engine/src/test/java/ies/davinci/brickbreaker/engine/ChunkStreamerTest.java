@@ -0,0 +1,115 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the TallLevel format, of the ChunkStreamer and of a World scrolling a tall level.
+ */
+public class ChunkStreamerTest {
+
+    private static TallLevel level(int columns, int rows) {
+        return new TallLevel(ByteBuffer.wrap(TallLevel.encode(columns, TallLevel.defaultCells(columns, rows))));
+    }
+
+    @Test
+    public void tallLevel_readsRowsAndHeader() {
+        byte[] cells = TallLevel.defaultCells(8, 100);
+        TallLevel level = new TallLevel(ByteBuffer.wrap(TallLevel.encode(8, cells)));
+        assertEquals(8, level.columns());
+        assertEquals(100, level.rows());
+        int bricks = 0;
+        for (byte cell : cells) {
+            bricks += cell != 0 ? 1 : 0;
+        }
+        assertEquals(bricks, level.brickCount());
+
+        byte[] rows = new byte[3 * 8];
+        level.readRows(98, 3, rows);
+        for (int i = 0; i < 16; i++) {
+            assertEquals(cells[98 * 8 + i], rows[i]);
+        }
+        for (int i = 16; i < 24; i++) {
+            assertEquals(0, rows[i]);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void truncatedLevel_isRejected() {
+        byte[] bytes = TallLevel.encode(8, TallLevel.defaultCells(8, 10));
+        new TallLevel(ByteBuffer.wrap(bytes, 0, bytes.length - 1).slice());
+    }
+
+    @Test
+    public void streamer_keepsFewChunksResidentWhileScrollingUp() {
+        TallLevel level = level(8, 40_000);
+        ChunkStreamer streamer = new ChunkStreamer(level, 4, ChunkStreamer.DEFAULT_AHEAD_CHUNKS);
+        byte[] expected = new byte[4 * 8];
+        try {
+            for (int row = level.rows() - 4; row >= 0; row -= 3) {
+                streamer.setView(row);
+                assertTrue(streamer.residentChunks() <= streamer.slotCount());
+                level.readRows(row, 4, expected);
+                for (int i = 0; i < expected.length; i++) {
+                    assertEquals(expected[i] & 0xFF, streamer.cell(row + i / 8, i % 8));
+                }
+            }
+            assertEquals(4, streamer.slotCount());
+            int chunks = (level.rows() + ChunkStreamer.CHUNK_ROWS - 1) / ChunkStreamer.CHUNK_ROWS;
+            assertEquals(chunks, streamer.loads());
+        } finally {
+            streamer.close();
+        }
+    }
+
+    @Test
+    public void cellsWritten_stayWhileTheirChunkIsResident() {
+        TallLevel level = level(8, 200);
+        ChunkStreamer streamer = new ChunkStreamer(level, 4, 1);
+        try {
+            streamer.setView(190);
+            streamer.setCell(193, 2, LevelPack.cell(BrickStore.TYPE_NORMAL, 3));
+            streamer.setCell(191, 5, 0);
+            streamer.setView(189);
+            assertEquals(LevelPack.cell(BrickStore.TYPE_NORMAL, 3), streamer.cell(193, 2));
+            assertEquals(0, streamer.cell(191, 5));
+        } finally {
+            streamer.close();
+        }
+    }
+
+    @Test
+    public void world_scrollsUpTheLevelAsRowsAreCleared() {
+        TallLevel level = level(8, 400);
+        ChunkStreamer streamer = new ChunkStreamer(level, 4, ChunkStreamer.DEFAULT_AHEAD_CHUNKS);
+        try {
+            World world = new World(1080, 1920, 66, 66, 210, 105, new Random(3));
+            GameSession session = new GameSession(world, streamer);
+            int startRow = world.getViewRow();
+            assertEquals(396, startRow);
+
+            int scrolls = 0;
+            for (int tick = 0; tick < 200_000 && !session.isFinished(); tick++) {
+                int events = session.tick(world.getBallX() - world.getPaddleWidth() / 2f);
+                if (GameEvents.has(events, GameEvents.FIELD_SCROLLED)) {
+                    scrolls++;
+                }
+                assertTrue(world.getBricks().size() <= 4 * 8);
+                assertTrue(streamer.residentChunks() <= streamer.slotCount());
+            }
+            assertTrue("the view did not scroll", scrolls > 0);
+            assertTrue(world.getViewRow() < startRow);
+            assertEquals(world.getBrokenBricks() * World.BRICK_POINTS, world.getPoints());
+            if (session.isFinished() && world.getLife() > 0) {
+                assertEquals(0, world.getViewRow());
+                assertEquals(level.brickCount(), world.getBrokenBricks());
+            }
+        } finally {
+            streamer.close();
+        }
+    }
+}
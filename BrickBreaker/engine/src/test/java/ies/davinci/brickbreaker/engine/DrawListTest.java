@@ -0,0 +1,112 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Headless tests of the DrawList commands and of the frames built by SceneBuilder.
+ */
+public class DrawListTest {
+
+    @Test
+    public void sort_groupsByStateWithinLayersAndKeepsOrder() {
+        DrawList list = new DrawList();
+        list.addSprite(1, 2, 0, 0);
+        list.addSprite(1, 1, 10, 0);
+        list.addRect(2, 0, 0, 0, 5, 5);
+        list.addSprite(1, 2, 20, 0);
+        list.addSprite(0, 7, 0, 0);
+        list.addSprite(1, 1, 30, 0);
+        assertEquals(6, list.stateChanges());
+
+        list.sort();
+        float[] expectedX = {0, 10, 30, 0, 20, 0};
+        int[] expectedResource = {7, 1, 1, 2, 2, 0};
+        for (int k = 0; k < list.count(); k++) {
+            int i = list.command(k);
+            assertEquals(expectedResource[k], list.resource(i));
+            assertEquals(expectedX[k], list.x(i), 0);
+        }
+        assertEquals(4, list.stateChanges());
+    }
+
+    @Test
+    public void addPointsAndText_copyTheirData() {
+        DrawList list = new DrawList();
+        float[] points = {1, 2, 3, 4};
+        char[] text = "x1234".toCharArray();
+        list.addPoints(0, 0, points, 4, 2f);
+        list.addText(0, 1, text, 1, 4, 5, 6);
+        points[0] = 100;
+        text[1] = 'z';
+
+        assertEquals(DrawList.POINTS, list.kind(0));
+        assertEquals(4, list.dataLength(0));
+        assertEquals(2, list.points()[list.dataStart(0)], 0);
+        assertEquals(8, list.points()[list.dataStart(0) + 3], 0);
+        assertEquals("1234", new String(list.text(), list.dataStart(1), list.dataLength(1)));
+    }
+
+    @Test
+    public void add_dropsCommandsThatDoNotFit() {
+        DrawList list = new DrawList(2, 4, 2);
+        list.addSprite(0, 0, 0, 0);
+        list.addPoints(0, 0, new float[6], 6, 1f);
+        list.addText(0, 0, "abc".toCharArray(), 0, 3, 0, 0);
+        list.addRect(0, 0, 0, 0, 1, 1);
+        list.addRect(0, 0, 0, 0, 1, 1);
+        assertEquals(2, list.count());
+        assertEquals(3, list.dropped());
+
+        list.clear();
+        assertEquals(0, list.count());
+        assertEquals(0, list.dropped());
+    }
+
+    @Test
+    public void sceneBuilder_drawsEachObjectOnce() {
+        World world = new World(1080, 1920, 25, 25, 80, 40, new Random(1));
+        world.spawnBall(100, 900, 10, 10);
+        world.spawnBall(200, 900, 10, 10);
+        ParticleSystem particles = new ParticleSystem(new Random(1));
+        particles.emitBurst(500, 500, 8, 4);
+        particles.update();
+        SceneBuilder scene = new SceneBuilder(2f, 2160, 3840);
+        DrawList list = new DrawList();
+        scene.build(world, particles, 1f, list);
+
+        // Bricks layer, 3 balls, paddle, particles, points and health bar.
+        assertEquals(8, list.count());
+        list.sort();
+        assertEquals(SceneBuilder.SPRITE_BRICKS, list.resource(list.command(0)));
+        assertEquals(SceneBuilder.LAYER_HUD, list.layer(list.command(list.count() - 1)));
+
+        // The balls share a bitmap and are drawn together, in pixels.
+        int first = list.command(1);
+        assertEquals(SceneBuilder.SPRITE_BALL, list.resource(first));
+        assertEquals(world.getBallX() * 2f, list.x(first), 0);
+        assertEquals(6, list.stateChanges());
+    }
+
+    @Test
+    public void sceneBuilder_interpolatesPaddle() {
+        World world = new World(1080, 1920, 25, 25, 80, 40, new Random(2));
+        world.movePaddle(100);
+        world.step();
+        world.movePaddle(200);
+        world.step();
+        SceneBuilder scene = new SceneBuilder(1f, 1080, 1920);
+        DrawList list = new DrawList();
+        scene.build(world, new ParticleSystem(new Random(2)), 0.25f, list);
+        for (int i = 0; i < list.count(); i++) {
+            if (list.kind(i) == DrawList.SPRITE && list.resource(i) == SceneBuilder.SPRITE_PADDLE) {
+                assertEquals(125, list.x(i), 0.001);
+                return;
+            }
+        }
+        fail("no paddle drawn");
+    }
+}
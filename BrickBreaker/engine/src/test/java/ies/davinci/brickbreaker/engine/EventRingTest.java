@@ -0,0 +1,98 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the EventRing single-producer, single-consumer queue and of its consumer thread.
+ */
+public class EventRingTest {
+
+    @Test
+    public void encode_roundTripsEveryField() {
+        long event = EventRing.encode(GameEvents.SESSION_FINISHED, 0xABCDEF, -5);
+        assertEquals(GameEvents.SESSION_FINISHED, EventRing.flag(event));
+        assertEquals(0xABCDEF, EventRing.tick(event));
+        assertEquals(-5, EventRing.value(event));
+        assertNotEquals(EventRing.EMPTY, EventRing.encode(GameEvents.PADDLE_HIT, 0, 0));
+
+        // Ticks wrap around instead of spilling into the flag.
+        assertEquals(GameEvents.PADDLE_HIT, EventRing.flag(EventRing.encode(GameEvents.PADDLE_HIT, -1, 0)));
+    }
+
+    @Test
+    public void offer_dropsEventsWhenFull() {
+        EventRing ring = new EventRing(3);
+        assertEquals(4, ring.capacity());
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(ring.offer(EventRing.encode(GameEvents.BRICK_BROKEN, i, i)));
+        }
+        assertFalse(ring.offer(EventRing.encode(GameEvents.BRICK_BROKEN, 5, 5)));
+        assertEquals(1, ring.dropped());
+        assertEquals(4, ring.size());
+
+        // Taking an event frees its slot, and events come out in order.
+        assertEquals(1, EventRing.value(ring.poll()));
+        assertTrue(ring.offer(EventRing.encode(GameEvents.BRICK_BROKEN, 6, 6)));
+        for (int expected : new int[] {2, 3, 4, 6}) {
+            assertEquals(expected, EventRing.value(ring.poll()));
+        }
+        assertEquals(EventRing.EMPTY, ring.poll());
+    }
+
+    @Test
+    public void consumer_receivesEveryEventInOrder() {
+        final int events = 1_000_000;
+        final AtomicLong received = new AtomicLong();
+        final AtomicLong outOfOrder = new AtomicLong();
+        EventConsumer consumer = new EventConsumer("test", 64, new EventConsumer.Handler() {
+            @Override
+            public void onEvent(long event) {
+                if (EventRing.value(event) != received.get()) {
+                    outOfOrder.incrementAndGet();
+                }
+                received.incrementAndGet();
+            }
+        });
+        consumer.start();
+
+        // Publish without ever blocking, retrying the events dropped by a full ring.
+        for (int i = 0; i < events; i++) {
+            long event = EventRing.encode(GameEvents.PADDLE_HIT, i, i);
+            while (!consumer.publish(event)) {
+                Thread.yield();
+            }
+        }
+        consumer.stopConsumer();
+        assertEquals(events, received.get());
+        assertEquals(events, consumer.handled());
+        assertEquals(0, outOfOrder.get());
+    }
+
+    @Test
+    public void sessionEvents_fitInLevelsLeftPlusTwo() {
+        LevelPackWriter writer = new LevelPackWriter();
+        writer.addDefaultLevels(3);
+        LevelPack pack = new LevelPack(ByteBuffer.wrap(writer.toByteArray()));
+        int sessionFlags = GameEvents.LEVEL_CLEARED | GameEvents.GAME_OVER | GameEvents.SESSION_FINISHED;
+        for (long seed = 0; seed < 20; seed++) {
+            GameSession session = new GameSession(new World(1080, 1920, 25, 25, 80, 40, new Random(seed)), pack);
+            World world = session.getWorld();
+            int limit = session.levelsLeft() + 2;
+            int published = 0;
+            // Follow the ball in half of the games, so some are cleared and some are lost.
+            for (int tick = 0; tick < 500_000 && !session.isFinished(); tick++) {
+                float paddleX = seed % 2 == 0 ? world.getBallX() - world.getPaddleWidth() / 2f : 0;
+                int events = session.tick(paddleX);
+                published += Integer.bitCount(events & sessionFlags);
+            }
+            assertTrue(session.isFinished());
+            assertTrue(published + " session events, limit " + limit, published <= limit);
+        }
+    }
+}
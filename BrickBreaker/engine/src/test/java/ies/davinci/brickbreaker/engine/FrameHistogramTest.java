@@ -0,0 +1,38 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the FrameHistogram percentiles and counters.
+ */
+public class FrameHistogramTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    public void percentiles_followRecordedDurations() {
+        FrameHistogram histogram = new FrameHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * MS);
+        }
+        assertEquals(100, histogram.count());
+        assertEquals(50_000, histogram.percentileMicros(50), FrameHistogram.BUCKET_MICROS);
+        assertEquals(95_000, histogram.percentileMicros(95), FrameHistogram.BUCKET_MICROS);
+        assertEquals(99_000, histogram.percentileMicros(99), FrameHistogram.BUCKET_MICROS);
+        assertEquals(100_000, histogram.maxMicros());
+        assertEquals(70, histogram.countAbove(30_000));
+    }
+
+    @Test
+    public void longDurations_goToLastBucket() {
+        FrameHistogram histogram = new FrameHistogram();
+        histogram.record(5000 * MS);
+        assertEquals(5_000_000, histogram.percentileMicros(50));
+        assertEquals(1, histogram.countAbove(FrameHistogram.MAX_MILLIS * 1000L));
+        histogram.reset();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.percentileMicros(99));
+    }
+}
@@ -0,0 +1,77 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the LevelPack format and of loading levels into the World.
+ */
+public class LevelPackTest {
+
+    private static LevelPack defaultPack() {
+        LevelPackWriter writer = new LevelPackWriter();
+        writer.addDefaultLevels();
+        return new LevelPack(ByteBuffer.wrap(writer.toByteArray()));
+    }
+
+    @Test
+    public void decode_readsOnlyTheRequestedLevel() {
+        LevelPackWriter writer = new LevelPackWriter();
+        writer.addLevel(2, 1, new byte[]{LevelPack.cell(0, 1), 0});
+        writer.addLevel(3, 2, new byte[]{
+                LevelPack.cell(0, 1), LevelPack.cell(1, 3), 0,
+                0, 0, LevelPack.cell(2, 15)});
+        LevelPack pack = new LevelPack(ByteBuffer.wrap(writer.toByteArray()));
+        assertEquals(2, pack.levelCount());
+        assertEquals(3, pack.columns(1));
+        assertEquals(2, pack.rows(1));
+
+        BrickStore bricks = new BrickStore();
+        BrickGrid grid = new BrickGrid(3, 2, 10, 5);
+        pack.decode(1, bricks, grid);
+        assertEquals(3, bricks.size());
+        assertEquals(1, bricks.type(1));
+        assertEquals(3, bricks.hitPoints(1));
+        assertEquals(1, bricks.row(2));
+        assertEquals(2, bricks.column(2));
+        assertEquals(15, bricks.hitPoints(2));
+        assertEquals(2, grid.get(1, 2));
+        assertEquals(BrickGrid.EMPTY, grid.get(1, 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void badMagic_isRejected() {
+        new LevelPack(ByteBuffer.wrap(new byte[16]));
+    }
+
+    @Test
+    public void defaultPack_startsWithClassicLevel() {
+        LevelPack pack = defaultPack();
+        assertEquals(LevelPackWriter.DEFAULT_LEVELS, pack.levelCount());
+        World world = new World(1080, 1920, 25, 25, 80, 40, new Random(1));
+        world.loadLevel(pack, 0);
+        assertEquals(World.BRICK_COLUMNS * World.BRICK_ROWS, world.getNumBricks());
+    }
+
+    @Test
+    public void loadLevel_keepsPointsAndReplacesBricks() {
+        LevelPack pack = defaultPack();
+        World world = new World(1080, 1920, 25, 25, 80, 40, new Random(2));
+        for (int frame = 0; frame < 3000 && !world.isGameOver(); frame++) {
+            world.movePaddle(world.getBallX() - world.getPaddleWidth() / 2f);
+            world.step();
+        }
+        int points = world.getPoints();
+        int last = pack.levelCount() - 1;
+        world.loadLevel(pack, last);
+        assertEquals(points, world.getPoints());
+        assertEquals(pack.columns(last), world.getBrickGrid().getColumns());
+        assertEquals(0, world.getBrokenBricks());
+        assertTrue(world.getNumBricks() > World.BRICK_COLUMNS * World.BRICK_ROWS);
+        assertEquals(world.getLife() == 0, world.isGameOver());
+    }
+}
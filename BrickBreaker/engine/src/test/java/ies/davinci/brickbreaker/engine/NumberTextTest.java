@@ -0,0 +1,26 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the NumberText HUD formatter.
+ */
+public class NumberTextTest {
+
+    @Test
+    public void set_formatsDigits() {
+        NumberText text = new NumberText();
+        assertEquals("0", text.toString());
+        text.set(240);
+        assertEquals("240", text.toString());
+        assertEquals(3, text.length());
+        text.set(7);
+        assertEquals("7", text.toString());
+        text.set(Integer.MAX_VALUE);
+        assertEquals(String.valueOf(Integer.MAX_VALUE), text.toString());
+        text.set(-5);
+        assertEquals("0", text.toString());
+    }
+}
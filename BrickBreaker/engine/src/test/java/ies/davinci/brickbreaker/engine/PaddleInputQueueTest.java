@@ -0,0 +1,99 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the PaddleInputQueue timestamped touch samples.
+ */
+public class PaddleInputQueueTest {
+
+    @Test
+    public void positionAt_keepsInitialPositionUntilFirstSample() {
+        PaddleInputQueue queue = new PaddleInputQueue(100);
+        assertEquals(100, queue.positionAt(50), 0);
+        queue.add(200, 300);
+
+        // The sample is still in the future, so the paddle does not move yet.
+        assertEquals(100, queue.positionAt(150), 0);
+        assertEquals(1, queue.pendingCount());
+        assertEquals(PaddleInputQueue.NO_LATENCY, queue.takeLatencyNanos());
+    }
+
+    @Test
+    public void positionAt_interpolatesBetweenSamples() {
+        PaddleInputQueue queue = new PaddleInputQueue(0);
+        queue.add(100, 10);
+        queue.add(200, 50);
+        queue.add(300, 30);
+        assertEquals(30, queue.positionAt(150), 0.001);
+        assertEquals(2, queue.pendingCount());
+        assertEquals(40, queue.positionAt(250), 0.001);
+        assertEquals(1, queue.pendingCount());
+    }
+
+    @Test
+    public void positionAt_neverExtrapolatesPastNewestSample() {
+        PaddleInputQueue queue = new PaddleInputQueue(0);
+        queue.add(100, 10);
+        queue.add(200, 50);
+        assertEquals(50, queue.positionAt(1000), 0);
+        assertEquals(0, queue.pendingCount());
+        assertEquals(50, queue.positionAt(2000), 0);
+    }
+
+    @Test
+    public void takeLatencyNanos_measuresNewestConsumedSample() {
+        PaddleInputQueue queue = new PaddleInputQueue(0);
+        queue.add(100, 10);
+        queue.add(180, 20);
+        queue.positionAt(200);
+        assertEquals(20, queue.takeLatencyNanos());
+
+        // Taking it forgets it, and a tick without new samples has no latency.
+        assertEquals(PaddleInputQueue.NO_LATENCY, queue.takeLatencyNanos());
+        queue.positionAt(300);
+        assertEquals(PaddleInputQueue.NO_LATENCY, queue.takeLatencyNanos());
+    }
+
+    @Test
+    public void add_dropsOldestSampleWhenFull() {
+        PaddleInputQueue queue = new PaddleInputQueue(3, 0);
+        for (int i = 1; i <= 5; i++) {
+            queue.add(i * 100, i);
+        }
+        assertEquals(3, queue.pendingCount());
+        assertEquals(5, queue.latest(), 0);
+
+        // Samples 1 and 2 were dropped, so sample 3 is the first one consumed.
+        assertEquals(3, queue.positionAt(300), 0);
+        assertEquals(2, queue.pendingCount());
+    }
+
+    @Test
+    public void positionAt_followsConcurrentProducer() throws InterruptedException {
+        final PaddleInputQueue queue = new PaddleInputQueue(64, 0);
+        final int samples = 100_000;
+        Thread producer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 1; i <= samples; i++) {
+                    queue.add(i, i);
+                }
+            }
+        });
+        producer.start();
+
+        // The samples increase with time, so the position seen by the ticks must never go back.
+        float previous = 0;
+        for (long tick = 0; tick <= samples; tick += 7) {
+            float position = queue.positionAt(tick);
+            assertTrue(position >= previous);
+            assertTrue(position <= tick);
+            previous = position;
+        }
+        producer.join();
+        assertEquals(samples, queue.positionAt(samples), 0);
+    }
+}
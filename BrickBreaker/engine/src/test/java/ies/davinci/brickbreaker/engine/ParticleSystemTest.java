@@ -0,0 +1,69 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the ParticleSystem ring buffer and frame budget.
+ */
+public class ParticleSystemTest {
+
+    @Test
+    public void emitBurst_isCappedPerFrame() {
+        ParticleSystem particles = new ParticleSystem(256, 20, new Random(1));
+        assertEquals(16, particles.emitBurst(0, 0, 16, 5));
+        assertEquals(4, particles.emitBurst(0, 0, 16, 5));
+        assertEquals(0, particles.emitBurst(0, 0, 16, 5));
+
+        // The budget comes back after the update.
+        particles.update();
+        assertEquals(20, particles.pointCount());
+        assertEquals(16, particles.emitBurst(0, 0, 16, 5));
+    }
+
+    @Test
+    public void fullRing_replacesOldestParticles() {
+        ParticleSystem particles = new ParticleSystem(8, 100, new Random(2));
+        particles.emitBurst(100, 100, 8, 0);
+        particles.emitBurst(500, 500, 3, 0);
+        particles.update();
+        assertEquals(8, particles.pointCount());
+
+        // The three newest particles, from the second burst, are the last ones packed.
+        float[] points = particles.points();
+        int newerBurst = 0;
+        for (int p = 0; p < particles.pointCount(); p++) {
+            if (points[p * 2] == 500) {
+                newerBurst++;
+            }
+        }
+        assertEquals(3, newerBurst);
+    }
+
+    @Test
+    public void particles_dieAfterTheirLife() {
+        ParticleSystem particles = new ParticleSystem(new Random(3));
+        particles.emitBurst(0, 0, 50, 10);
+        for (int frame = 0; frame < ParticleSystem.MIN_LIFE - 1; frame++) {
+            particles.update();
+            assertEquals(50, particles.pointCount());
+        }
+        for (int frame = 0; frame < ParticleSystem.LIFE_RANGE; frame++) {
+            particles.update();
+        }
+        assertEquals(0, particles.pointCount());
+    }
+
+    @Test
+    public void particles_fallWithGravity() {
+        ParticleSystem particles = new ParticleSystem(new Random(4));
+        particles.emitBurst(0, 0, 1, 0);
+        particles.update();
+        particles.update();
+        assertEquals(0, particles.points()[0], 0);
+        assertEquals(ParticleSystem.GRAVITY, particles.points()[1], 0);
+    }
+}
@@ -0,0 +1,102 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the QualityGovernor steps down and up.
+ */
+public class QualityGovernorTest {
+
+    private static final long BUDGET = 16_000_000L;
+
+    /**
+     * Reports a window of vsyncs that draw at the render interval of the governor.
+     */
+    private static void playWindow(QualityGovernor governor, long update, long draw) {
+        for (int i = 0; i < QualityGovernor.WINDOW_FRAMES; i++) {
+            boolean drawn = i % governor.renderInterval() == 0;
+            governor.recordFrame(update, drawn ? draw : 0, drawn);
+        }
+    }
+
+    @Test
+    public void slowFrames_stepDownOneLevelPerWindow() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        assertEquals(16, governor.particlesPerBurst(16));
+        playWindow(governor, 2_000_000L, 20_000_000L);
+        assertEquals(QualityGovernor.LEVEL_FEWER_EFFECTS, governor.getLevel());
+        assertEquals(8, governor.particlesPerBurst(16));
+        playWindow(governor, 2_000_000L, 20_000_000L);
+        assertEquals(QualityGovernor.LEVEL_CACHED_ONLY, governor.getLevel());
+        assertEquals(0, governor.particlesPerBurst(16));
+        assertEquals(1, governor.renderInterval());
+
+        // Drawing every second vsync brings the cost under the budget, so the level holds.
+        playWindow(governor, 2_000_000L, 20_000_000L);
+        assertEquals(QualityGovernor.LEVEL_HALF_RATE, governor.getLevel());
+        assertEquals(2, governor.renderInterval());
+        playWindow(governor, 2_000_000L, 20_000_000L);
+        assertEquals(QualityGovernor.LEVEL_HALF_RATE, governor.getLevel());
+        assertEquals(12_000_000L, governor.getLastCostNanos());
+    }
+
+    @Test
+    public void fastFrames_stepUpAfterCalmWindows() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        for (int i = 0; i < QualityGovernor.LEVEL_COUNT; i++) {
+            playWindow(governor, 20_000_000L, 20_000_000L);
+        }
+        assertEquals(QualityGovernor.LEVEL_THIRD_RATE, governor.getLevel());
+
+        for (int i = 0; i < QualityGovernor.UP_WINDOWS - 1; i++) {
+            playWindow(governor, 1_000_000L, 3_000_000L);
+        }
+        assertEquals(QualityGovernor.LEVEL_THIRD_RATE, governor.getLevel());
+        playWindow(governor, 1_000_000L, 3_000_000L);
+        assertEquals(QualityGovernor.LEVEL_HALF_RATE, governor.getLevel());
+        for (int i = 0; i < 4 * QualityGovernor.UP_WINDOWS; i++) {
+            playWindow(governor, 1_000_000L, 3_000_000L);
+        }
+        assertEquals(QualityGovernor.LEVEL_FULL, governor.getLevel());
+    }
+
+    @Test
+    public void drawTooSlowForNextLevel_keepsLowerRate() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        for (int i = 0; i < QualityGovernor.LEVEL_HALF_RATE; i++) {
+            playWindow(governor, 20_000_000L, 20_000_000L);
+        }
+        assertEquals(QualityGovernor.LEVEL_HALF_RATE, governor.getLevel());
+
+        // 6 ms per vsync at half rate, but 13 ms when drawing every vsync.
+        for (int i = 0; i < 4 * QualityGovernor.UP_WINDOWS; i++) {
+            playWindow(governor, 1_000_000L, 12_000_000L);
+        }
+        assertEquals(QualityGovernor.LEVEL_HALF_RATE, governor.getLevel());
+    }
+
+    @Test
+    public void thermalStatus_setsLowestLevel() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        governor.setThermalStatus(QualityGovernor.THERMAL_SEVERE);
+        playWindow(governor, 1_000_000L, 1_000_000L);
+        assertEquals(QualityGovernor.LEVEL_CACHED_ONLY, governor.getLevel());
+        for (int i = 0; i < 4 * QualityGovernor.UP_WINDOWS; i++) {
+            playWindow(governor, 1_000_000L, 1_000_000L);
+        }
+        assertEquals(QualityGovernor.LEVEL_CACHED_ONLY, governor.getLevel());
+
+        // Statuses past critical count as critical.
+        governor.setThermalStatus(6);
+        playWindow(governor, 1_000_000L, 1_000_000L);
+        assertEquals(QualityGovernor.LEVEL_HALF_RATE, governor.getLevel());
+
+        governor.setThermalStatus(QualityGovernor.THERMAL_NONE);
+        for (int i = 0; i < 4 * QualityGovernor.UP_WINDOWS; i++) {
+            playWindow(governor, 1_000_000L, 1_000_000L);
+        }
+        assertEquals(QualityGovernor.LEVEL_FULL, governor.getLevel());
+    }
+}
@@ -0,0 +1,100 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of recording games into an InputLog and playing them again with Replay.
+ */
+public class ReplayTest {
+
+    private static LevelPack defaultPack() {
+        LevelPackWriter writer = new LevelPackWriter();
+        writer.addDefaultLevels();
+        return new LevelPack(ByteBuffer.wrap(writer.toByteArray()));
+    }
+
+    /**
+     * Records a game played by a jittery autopilot that follows the first ball.
+     */
+    private static GameSession record(InputLog log, LevelPack pack, int ticks) {
+        GameSession session = new GameSession(log.newWorld(), pack);
+        World world = session.getWorld();
+        for (int tick = 0; tick < ticks && !session.isFinished(); tick++) {
+            int paddleX = Math.round(world.getBallX() - world.getPaddleWidth() / 2f) + (tick * 37 % 41) - 20;
+            log.record(paddleX);
+            session.tick(paddleX);
+        }
+        return session;
+    }
+
+    private static InputLog roundTrip(InputLog log) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        log.write(out);
+        return InputLog.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test
+    public void replay_reproducesTheRecordedGame() throws IOException {
+        LevelPack pack = defaultPack();
+        for (long seed = 0; seed < 10; seed++) {
+            InputLog log = new InputLog(seed, 1080, 1920, 25, 25, 80, 40);
+            GameSession recorded = record(log, pack, 20_000);
+
+            Replay replay = new Replay(roundTrip(log), pack);
+            GameSession replayed = replay.playToEnd();
+            assertEquals(log.tickCount(), replay.getTick());
+            assertEquals(recorded.getLevel(), replayed.getLevel());
+            assertEquals(recorded.isFinished(), replayed.isFinished());
+            World a = recorded.getWorld(), b = replayed.getWorld();
+            assertEquals(a.getPoints(), b.getPoints());
+            assertEquals(a.getLife(), b.getLife());
+            assertEquals(a.getPaddleX(), b.getPaddleX(), 0);
+            assertEquals(a.getBallX(), b.getBallX(), 0);
+            assertEquals(a.getBallY(), b.getBallY(), 0);
+        }
+    }
+
+    @Test
+    public void stillPaddle_takesOneBytePerTick() {
+        InputLog log = new InputLog(1, 1080, 1920, 25, 25, 80, 40);
+        log.record(500);
+        int first = log.byteCount();
+        for (int tick = 0; tick < 1000; tick++) {
+            log.record(500);
+        }
+        assertEquals(first + 1000, log.byteCount());
+        assertEquals(1001, log.tickCount());
+    }
+
+    @Test
+    public void deltas_roundTripInBothDirections() throws IOException {
+        InputLog log = new InputLog(7, 1080, 1920, 25, 25, 80, 40);
+        int[] positions = {0, 1, -1, 63, -64, 64, 1000, -100_000, 100_000, Integer.MAX_VALUE / 4};
+        for (int paddleX : positions) {
+            log.record(paddleX);
+        }
+        InputLog read = roundTrip(log);
+        assertEquals(7, read.getSeed());
+        int[] decoded = new int[2];
+        int position = 0, paddleX = 0;
+        for (int expected : positions) {
+            read.decode(position, decoded);
+            paddleX += decoded[0];
+            position = decoded[1];
+            assertEquals(expected, paddleX);
+        }
+        assertEquals(read.byteCount(), position);
+    }
+
+    @Test(expected = IOException.class)
+    public void badMagic_isRejected() throws IOException {
+        InputLog.read(new ByteArrayInputStream(new byte[64]));
+    }
+}
@@ -0,0 +1,130 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the ScoreBoard and of its append-only ScoreStore file.
+ */
+public class ScoreStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void board_keepsBestScoresInOrder() {
+        ScoreBoard board = new ScoreBoard();
+        for (int i = 0; i < ScoreBoard.TOP_SCORES + 5; i++) {
+            board.add(i, (i * 7) % 13 * 10, i % 3, 100, i % 4 == 0);
+        }
+        assertEquals(ScoreBoard.TOP_SCORES + 5, board.getGames());
+        assertEquals(4, board.getWins());
+        assertEquals(ScoreBoard.TOP_SCORES, board.topCount());
+        assertEquals(120, board.getHighScore());
+        for (int i = 1; i < board.topCount(); i++) {
+            assertTrue(board.topPoints(i) <= board.topPoints(i - 1));
+        }
+        assertEquals(2, board.getBestLevels());
+    }
+
+    @Test
+    public void board_combineMatchesAddingEveryGame() {
+        ScoreBoard all = new ScoreBoard(), a = new ScoreBoard(), b = new ScoreBoard();
+        for (int i = 0; i < 30; i++) {
+            int points = (i * 37) % 101;
+            all.add(i, points, 1, i, false);
+            (i % 2 == 0 ? a : b).add(i, points, 1, i, false);
+        }
+        b.combine(a);
+        assertEquals(all.getGames(), b.getGames());
+        assertEquals(all.getTotalPoints(), b.getTotalPoints());
+        assertEquals(all.getTotalTicks(), b.getTotalTicks());
+        for (int i = 0; i < all.topCount(); i++) {
+            assertEquals(all.topPoints(i), b.topPoints(i));
+        }
+    }
+
+    @Test
+    public void recordedGames_areLoadedByNextStore() throws Exception {
+        File file = new File(folder.getRoot(), "scores.bbhs");
+        ScoreStore store = new ScoreStore(file);
+        store.record(1000, 50, 1, 300, false);
+        store.record(2000, 80, 2, 500, true);
+        assertEquals(80, store.board().getHighScore());
+        assertTrue(store.flush(5000));
+        assertNull(store.getLastError());
+        assertEquals(ScoreStore.HEADER_BYTES + 2 * ScoreStore.RECORD_BYTES, file.length());
+
+        ScoreStore reopened = new ScoreStore(file);
+        reopened.record(3000, 20, 0, 100, false);
+        assertTrue(reopened.flush(5000));
+        ScoreBoard board = reopened.board();
+        assertEquals(3, board.getGames());
+        assertEquals(1, board.getWins());
+        assertEquals(150, board.getTotalPoints());
+        assertEquals(80, board.topPoints(0));
+        assertEquals(2000, board.topTime(0));
+        assertEquals(ScoreStore.HEADER_BYTES + 3 * ScoreStore.RECORD_BYTES, file.length());
+    }
+
+    @Test
+    public void partialRecord_isTruncatedOnLoad() throws Exception {
+        File file = new File(folder.getRoot(), "scores.bbhs");
+        ScoreStore store = new ScoreStore(file);
+        store.record(1000, 50, 1, 300, false);
+        assertTrue(store.flush(5000));
+        try (RandomAccessFile out = new RandomAccessFile(file, "rw")) {
+            out.setLength(file.length() + 7);
+        }
+
+        ScoreStore reopened = new ScoreStore(file);
+        reopened.record(2000, 60, 1, 300, false);
+        assertTrue(reopened.flush(5000));
+        assertEquals(ScoreStore.HEADER_BYTES + 2 * ScoreStore.RECORD_BYTES, file.length());
+        ScoreStore loaded = new ScoreStore(file);
+        assertTrue(loaded.flush(5000));
+        assertEquals(2, loaded.board().getGames());
+    }
+
+    @Test
+    public void foreignFile_isStartedAgain() throws Exception {
+        File file = new File(folder.getRoot(), "scores.bbhs");
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write("not a score file".getBytes("US-ASCII"));
+        }
+        ScoreStore store = new ScoreStore(file);
+        store.record(1000, 40, 1, 300, false);
+        assertTrue(store.flush(5000));
+        assertEquals(1, store.board().getGames());
+        assertEquals(ScoreStore.HEADER_BYTES + ScoreStore.RECORD_BYTES, file.length());
+    }
+
+    @Test
+    public void failedWrite_isReportedAndRetried() throws Exception {
+        File dir = new File(folder.getRoot(), "scores");
+        File file = new File(dir, "scores.bbhs");
+        ScoreStore store = new ScoreStore(file);
+        store.record(1000, 40, 1, 300, false);
+        store.record(2000, 80, 2, 600, true);
+        assertFalse(store.flush(5000));
+        assertNotNull(store.getLastError());
+
+        assertTrue(dir.mkdir());
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!store.flush(5000) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(ScoreStore.RETRY_MILLIS);
+        }
+        assertTrue(store.flush(0));
+        assertEquals(ScoreStore.HEADER_BYTES + 2 * ScoreStore.RECORD_BYTES, file.length());
+        ScoreStore next = new ScoreStore(file);
+        assertTrue(next.flush(5000));
+        assertEquals(2, next.board().getGames());
+    }
+}
@@ -0,0 +1,39 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the SweptAabb time of impact computation.
+ */
+public class SweptAabbTest {
+
+    private final SweptAabb sweep = new SweptAabb();
+
+    @Test
+    public void fastBox_hitsThinBoxItJumpsOver() {
+        // A 10x10 box moving 500 down crosses a 20 high box that an end-of-step test would miss.
+        assertTrue(sweep.test(0, 0, 10, 10, 0, 500, -50, 200, 50, 220));
+        assertEquals(190f / 500f, sweep.time, 1e-6);
+        assertEquals(SweptAabb.AXIS_Y, sweep.axis);
+    }
+
+    @Test
+    public void sideHit_reportsAxisX() {
+        assertTrue(sweep.test(0, 100, 10, 10, 100, 5, 50, 80, 80, 140));
+        assertEquals(40f / 100f, sweep.time, 1e-6);
+        assertEquals(SweptAabb.AXIS_X, sweep.axis);
+    }
+
+    @Test
+    public void touchingBoxMovingAway_doesNotHit() {
+        assertFalse(sweep.test(0, 190, 10, 10, 0, -30, -50, 200, 50, 220));
+    }
+
+    @Test
+    public void boxOutOfReach_doesNotHit() {
+        assertFalse(sweep.test(0, 0, 10, 10, 0, 100, -50, 200, 50, 220));
+        assertFalse(sweep.test(0, 0, 10, 10, 0, 500, 100, 200, 150, 220));
+    }
+}
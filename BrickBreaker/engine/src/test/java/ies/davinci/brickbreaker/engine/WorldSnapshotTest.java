@@ -0,0 +1,129 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of saving and restoring games with WorldSnapshot.
+ */
+public class WorldSnapshotTest {
+
+    private static LevelPack defaultPack() {
+        LevelPackWriter writer = new LevelPackWriter();
+        writer.addDefaultLevels();
+        return new LevelPack(ByteBuffer.wrap(writer.toByteArray()));
+    }
+
+    private static GameSession newSession(LevelPack pack, long seed) {
+        return new GameSession(new World(1080, 1920, 25, 25, 80, 40, new Random(seed)), pack);
+    }
+
+    /**
+     * Plays with an autopilot paddle that follows the first ball.
+     */
+    private static void play(GameSession session, int ticks) {
+        World world = session.getWorld();
+        for (int tick = 0; tick < ticks && !session.isFinished(); tick++) {
+            session.tick(world.getBallX() - world.getPaddleWidth() / 2f);
+        }
+    }
+
+    private static void assertSameState(GameSession expected, GameSession actual) {
+        World a = expected.getWorld(), b = actual.getWorld();
+        assertEquals(expected.getLevel(), actual.getLevel());
+        assertEquals(a.getPoints(), b.getPoints());
+        assertEquals(a.getLife(), b.getLife());
+        assertEquals(a.getBrokenBricks(), b.getBrokenBricks());
+        assertEquals(a.getPaddleX(), b.getPaddleX(), 0);
+        assertEquals(a.getBalls().count(), b.getBalls().count());
+        for (int i = 0; i < a.getBalls().count(); i++) {
+            assertEquals(a.getBalls().x(i), b.getBalls().x(i), 0);
+            assertEquals(a.getBalls().y(i), b.getBalls().y(i), 0);
+            assertEquals(a.getBalls().velocityX(i), b.getBalls().velocityX(i));
+            assertEquals(a.getBalls().velocityY(i), b.getBalls().velocityY(i));
+        }
+        BrickStore x = a.getBricks(), y = b.getBricks();
+        assertEquals(x.size(), y.size());
+        assertEquals(x.aliveCount(), y.aliveCount());
+        for (int i = 0; i < x.size(); i++) {
+            assertEquals(x.isAlive(i), y.isAlive(i));
+            if (x.isAlive(i)) {
+                assertEquals(x.hitPoints(i), y.hitPoints(i));
+            }
+        }
+    }
+
+    @Test
+    public void restore_reproducesTheSavedGame() {
+        LevelPack pack = defaultPack();
+        for (long seed = 0; seed < 10; seed++) {
+            GameSession saved = newSession(pack, seed);
+            play(saved, 3_000);
+            byte[] snapshot = WorldSnapshot.save(saved);
+
+            GameSession restored = newSession(pack, seed + 100);
+            assertTrue(WorldSnapshot.restore(restored, snapshot));
+            assertSameState(saved, restored);
+
+            // Broken bricks are out of the grid too, so both games play on identically.
+            saved.tick(500);
+            restored.tick(500);
+            assertEquals(saved.getWorld().getBricks().aliveCount(), restored.getWorld().getBricks().aliveCount());
+            assertEquals(saved.getWorld().getBallY(), restored.getWorld().getBallY(), 0);
+        }
+    }
+
+    @Test
+    public void snapshot_isCompact() {
+        GameSession session = newSession(defaultPack(), 1);
+        play(session, 100);
+        assertTrue(WorldSnapshot.save(session).length < 64);
+    }
+
+    @Test
+    public void otherFieldSize_isNotRestored() {
+        LevelPack pack = defaultPack();
+        GameSession saved = newSession(pack, 1);
+        play(saved, 500);
+        GameSession other = new GameSession(new World(720, 1280, 25, 25, 80, 40, new Random(2)), pack);
+        int points = other.getWorld().getPoints();
+        assertFalse(WorldSnapshot.restore(other, WorldSnapshot.save(saved)));
+        assertEquals(points, other.getWorld().getPoints());
+    }
+
+    @Test
+    public void snapshotOfAnotherLevel_leavesTheGameUntouched() {
+        LevelPack pack = defaultPack();
+        GameSession saved = newSession(pack, 1);
+        play(saved, 500);
+        byte[] snapshot = WorldSnapshot.save(saved);
+        // Level 2 has more bricks than level 0.
+        ByteBuffer.wrap(snapshot).putShort(13, (short) 2);
+
+        GameSession other = newSession(pack, 2);
+        play(other, 200);
+        int points = other.getWorld().getPoints();
+        int aliveBricks = other.getWorld().getBricks().aliveCount();
+        try {
+            WorldSnapshot.restore(other, snapshot);
+            fail("snapshot of another level was restored");
+        } catch (IllegalArgumentException expected) {
+            assertEquals(0, other.getLevel());
+            assertEquals(points, other.getWorld().getPoints());
+            assertEquals(aliveBricks, other.getWorld().getBricks().aliveCount());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void truncatedSnapshot_isRejected() {
+        GameSession session = newSession(defaultPack(), 1);
+        byte[] snapshot = WorldSnapshot.save(session);
+        byte[] truncated = new byte[snapshot.length - 3];
+        System.arraycopy(snapshot, 0, truncated, 0, truncated.length);
+        WorldSnapshot.restore(newSession(defaultPack(), 2), truncated);
+    }
+}
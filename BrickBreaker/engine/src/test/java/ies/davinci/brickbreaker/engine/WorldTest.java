@@ -0,0 +1,184 @@
+package ies.davinci.brickbreaker.engine;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Headless tests of the World simulation, run on the development machine.
+ */
+public class WorldTest {
+
+    private static final int WIDTH = 1080, HEIGHT = 1920;
+
+    private static World newWorld(long seed) {
+        return new World(WIDTH, HEIGHT, 25, 25, 80, 40, new Random(seed));
+    }
+
+    @Test
+    public void newWorld_hasFullLevel() {
+        World world = newWorld(1);
+        assertEquals(World.BRICK_COLUMNS * World.BRICK_ROWS, world.getNumBricks());
+        assertEquals(World.START_LIFE, world.getLife());
+        assertEquals(0, world.getPoints());
+        assertFalse(world.isGameOver());
+    }
+
+    @Test
+    public void missedBall_losesLifeUntilGameOver() {
+        World world = newWorld(2);
+        // Keep the paddle in a corner so the ball is eventually missed.
+        int lifeLost = 0;
+        for (int frame = 0; frame < 100_000 && !world.isGameOver(); frame++) {
+            world.movePaddle(0);
+            int events = world.step();
+            if (GameEvents.has(events, GameEvents.LIFE_LOST)) {
+                lifeLost++;
+            }
+        }
+        assertTrue(world.isGameOver());
+        assertTrue(lifeLost <= World.START_LIFE);
+    }
+
+    @Test
+    public void movePaddle_staysInsideField() {
+        World world = newWorld(3);
+        world.movePaddle(-500);
+        assertEquals(0, world.getPaddleX(), 0);
+        world.movePaddle(WIDTH * 2);
+        assertEquals(WIDTH - world.getPaddleWidth(), world.getPaddleX(), 0);
+    }
+
+    @Test
+    public void interpolatedPaddleX_followsLastTwoSteps() {
+        World world = newWorld(4);
+        world.movePaddle(100);
+        world.step();
+        world.movePaddle(300);
+        world.step();
+        assertEquals(100, world.getInterpolatedPaddleX(0), 0);
+        assertEquals(200, world.getInterpolatedPaddleX(0.5f), 0.001);
+        assertEquals(300, world.getInterpolatedPaddleX(1), 0);
+
+        // Moving the paddle between steps does not show until the next step.
+        world.movePaddle(500);
+        assertEquals(300, world.getInterpolatedPaddleX(1), 0);
+    }
+
+    @Test
+    public void interpolatedBall_movesByOneStepVelocity() {
+        World world = newWorld(5);
+        BallPool balls = world.getBalls();
+        world.step();
+        float x = balls.x(0), y = balls.y(0);
+        int vx = balls.velocityX(0), vy = balls.velocityY(0);
+        world.step();
+        assertEquals(x, balls.interpolatedX(0, 0), 0);
+        assertEquals(x + vx / 2f, balls.interpolatedX(0, 0.5f), 0.001);
+        assertEquals(y + vy / 2f, balls.interpolatedY(0, 0.5f), 0.001);
+    }
+
+    @Test
+    public void simulatedGames_keepScoreConsistent() {
+        for (long seed = 0; seed < 2000; seed++) {
+            World world = newWorld(seed);
+            for (int frame = 0; frame < 5000 && !world.isGameOver(); frame++) {
+                // Simple autopilot: follow the ball with the paddle.
+                world.movePaddle(world.getBallX() - world.getPaddleWidth() / 2f);
+                int events = world.step();
+                if (GameEvents.has(events, GameEvents.LEVEL_CLEARED)) {
+                    assertEquals(world.getNumBricks(), world.getBrokenBricks());
+                }
+                assertTrue(world.getLife() >= 0);
+            }
+            assertEquals(World.BRICK_POINTS * world.getBrokenBricks(), world.getPoints());
+            if (world.isGameOver()) {
+                assertEquals(GameEvents.NONE, world.step());
+            }
+        }
+    }
+
+    @Test
+    public void fastBall_neverTunnelsIntoBricksOrWalls() {
+        for (long seed = 0; seed < 200; seed++) {
+            World world = newWorld(seed);
+            world.getBalls().setVelocity(0, 300 + (int) seed, -450);
+            BrickStore bricks = world.getBricks();
+            for (int frame = 0; frame < 200 && !world.isGameOver(); frame++) {
+                world.movePaddle(world.getBallX() - world.getPaddleWidth() / 2f);
+                world.step();
+                float x = world.getBallX(), y = world.getBallY();
+                assertTrue(x >= -0.01f && x <= WIDTH - 25 + 0.01f);
+                assertTrue(y >= -0.01f);
+                for (int i = bricks.nextAlive(0); i >= 0; i = bricks.nextAlive(i + 1)) {
+                    boolean inside = x + 25 > bricks.left(i) + 0.01f && x < bricks.right(i) - 0.01f
+                            && y + 25 > bricks.top(i) + 0.01f && y < bricks.bottom(i) - 0.01f;
+                    assertFalse("ball inside brick " + i, inside);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void lostBalls_onlyCostALifeWhenTheLastOneIsLost() {
+        World world = newWorld(4);
+        for (int i = 0; i < 59; i++) {
+            assertTrue(world.spawnBall(20 * i, 900 + i, 30, 40) >= 0);
+        }
+        assertEquals(60, world.getBalls().count());
+        int lifeLost = 0;
+        for (int frame = 0; frame < 200 && lifeLost == 0; frame++) {
+            world.movePaddle(0);
+            int events = world.step();
+            if (GameEvents.has(events, GameEvents.LIFE_LOST)) {
+                lifeLost++;
+                assertEquals(1, world.getBalls().count());
+            } else {
+                assertTrue(world.getBalls().count() > 0);
+            }
+        }
+        assertEquals(1, lifeLost);
+        assertEquals(World.START_LIFE - 1, world.getLife());
+    }
+
+    @Test
+    public void multiBallBrick_spawnsExtraBalls() {
+        LevelPackWriter writer = new LevelPackWriter();
+        writer.addLevel(2, 1, new byte[]{
+                LevelPack.cell(BrickStore.TYPE_MULTI_BALL, 1), LevelPack.cell(BrickStore.TYPE_NORMAL, 15)});
+        World world = newWorld(5);
+        world.loadLevel(new LevelPack(ByteBuffer.wrap(writer.toByteArray())), 0);
+        world.getBalls().setPosition(0, 100, 300);
+        world.getBalls().setVelocity(0, 0, -40);
+        int events = GameEvents.NONE;
+        for (int frame = 0; frame < 20 && !GameEvents.has(events, GameEvents.MULTI_BALL); frame++) {
+            events = world.step();
+        }
+        assertTrue(GameEvents.has(events, GameEvents.BRICK_BROKEN));
+        assertEquals(1 + World.MULTI_BALL_SPAWN, world.getBalls().count());
+        // The ball that broke the brick bounced down, the extra balls go up.
+        assertTrue(world.getBalls().velocityY(0) > 0);
+        for (int i = 1; i < world.getBalls().count(); i++) {
+            assertTrue(world.getBalls().velocityY(i) < 0);
+        }
+    }
+
+    @Test
+    public void ballPinnedBetweenPaddleAndWall_isLiftedOut() {
+        World world = newWorld(6);
+        world.movePaddle(world.getWidth());
+        BallPool balls = world.getBalls();
+        balls.setPosition(0, world.getWidth() - world.getBallWidth(), world.getPaddleY() + 8);
+        balls.setVelocity(0, 30, 5);
+        for (int frame = 0; frame < 10; frame++) {
+            world.movePaddle(world.getWidth());
+            world.step();
+            assertTrue(Math.abs(balls.velocityX(0)) < 100);
+            assertTrue(Math.abs(balls.velocityY(0)) < 100);
+        }
+        assertTrue(balls.y(0) < world.getPaddleY());
+    }
+}
@@ -15,4 +15,6 @@ dependencyResolutionManagement {
 
 rootProject.name = "Brick Breaker"
 include(":app")
+include(":engine")
+include(":benchmark")
  
\ No newline at end of file